@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalogo.application;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+// Runs synchronous use cases on a bounded executor. The returned future times out at the deadline, and both
+// a timeout and cancel(...) interrupt the thread running the call; the deadline is also visible to the
+// gateway through Deadline.current(). A full executor fails the future instead of blocking the caller.
+public class AsyncExecution {
+
+    private final Executor executor;
+    private final Duration defaultTimeout;
+
+    public AsyncExecution(final Executor executor, final Duration defaultTimeout) {
+        this.executor = requireNonNull(executor);
+        this.defaultTimeout = requireNonNull(defaultTimeout);
+    }
+
+    public Deadline defaultDeadline() {
+        return Deadline.after(this.defaultTimeout);
+    }
+
+    public <T> CompletableFuture<T> supply(final Deadline aDeadline, final Supplier<T> aCall) {
+        final var result = new CompletableFuture<T>();
+        final var task = new Task<>(result, aDeadline, aCall);
+        try {
+            this.executor.execute(task);
+        } catch (final RejectedExecutionException ex) {
+            result.completeExceptionally(ex);
+            return result;
+        }
+        result.orTimeout(aDeadline.remaining().toNanos(), TimeUnit.NANOSECONDS)
+                .whenComplete((value, error) -> {
+                    if (error instanceof CancellationException || error instanceof TimeoutException) {
+                        task.interrupt();
+                    }
+                });
+        return result;
+    }
+
+    private static final class Task<T> implements Runnable {
+
+        private final CompletableFuture<T> result;
+        private final Deadline deadline;
+        private final Supplier<T> call;
+        private Thread runner;
+
+        private Task(final CompletableFuture<T> result, final Deadline deadline, final Supplier<T> call) {
+            this.result = result;
+            this.deadline = deadline;
+            this.call = call;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                // Cancelled or timed out while queued.
+                if (this.result.isDone()) {
+                    return;
+                }
+                this.runner = Thread.currentThread();
+            }
+            try {
+                this.result.complete(this.deadline.run(this.call));
+            } catch (final Throwable t) {
+                this.result.completeExceptionally(t);
+            } finally {
+                synchronized (this) {
+                    this.runner = null;
+                }
+                // Clears an interrupt that arrived after the call returned, so it does not leak into the next task.
+                Thread.interrupted();
+            }
+        }
+
+        private synchronized void interrupt() {
+            if (this.runner != null) {
+                this.runner.interrupt();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncUnitUseCase<IN> {
+
+    public abstract CompletableFuture<Void> execute(IN anIn);
+
+    public abstract CompletableFuture<Void> execute(IN anIn, Deadline aDeadline);
+
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncUseCase<IN, OUT> {
+
+    public abstract CompletableFuture<OUT> execute(IN anIn);
+
+    public abstract CompletableFuture<OUT> execute(IN anIn, Deadline aDeadline);
+
+}
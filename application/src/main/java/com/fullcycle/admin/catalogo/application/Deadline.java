@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.application;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+// Point in time by which a use case must finish. run() exposes it to the calling thread, so gateways
+// can bound what they wait for with current().
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private Deadline(final long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline after(final Duration aTimeout) {
+        return new Deadline(System.nanoTime() + requireNonNull(aTimeout).toNanos());
+    }
+
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, this.expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return this.expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    // A deadline already set by an outer call wins when it is the earlier one.
+    public <T> T run(final Supplier<T> aCall) {
+        final var previous = CURRENT.get();
+        CURRENT.set(previous != null && previous.expiresAtNanos - this.expiresAtNanos < 0 ? previous : this);
+        try {
+            return aCall.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.AsyncUseCase;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public abstract class AsyncCreateCategoriesUseCase extends
+        AsyncUseCase<List<CreateCategoryCommand>, List<Either<Notification, CreateCategoryOutput>>> {
+}
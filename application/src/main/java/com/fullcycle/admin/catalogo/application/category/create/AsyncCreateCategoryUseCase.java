@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.AsyncUseCase;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class AsyncCreateCategoryUseCase extends
+        AsyncUseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> {
+}
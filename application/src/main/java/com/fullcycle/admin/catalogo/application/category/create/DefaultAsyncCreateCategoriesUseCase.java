@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.AsyncExecution;
+import com.fullcycle.admin.catalogo.application.Deadline;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+public class DefaultAsyncCreateCategoriesUseCase extends AsyncCreateCategoriesUseCase {
+
+    private final CreateCategoriesUseCase useCase;
+    private final AsyncExecution execution;
+
+    public DefaultAsyncCreateCategoriesUseCase(final CreateCategoriesUseCase useCase, final AsyncExecution execution) {
+        this.useCase = requireNonNull(useCase);
+        this.execution = requireNonNull(execution);
+    }
+
+    @Override
+    public CompletableFuture<List<Either<Notification, CreateCategoryOutput>>> execute(
+            final List<CreateCategoryCommand> anIn) {
+        return execute(anIn, this.execution.defaultDeadline());
+    }
+
+    @Override
+    public CompletableFuture<List<Either<Notification, CreateCategoryOutput>>> execute(
+            final List<CreateCategoryCommand> anIn, final Deadline aDeadline) {
+        return this.execution.supply(aDeadline, () -> this.useCase.execute(anIn));
+    }
+
+}
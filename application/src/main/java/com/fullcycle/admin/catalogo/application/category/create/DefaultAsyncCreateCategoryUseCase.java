@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.AsyncExecution;
+import com.fullcycle.admin.catalogo.application.Deadline;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+public class DefaultAsyncCreateCategoryUseCase extends AsyncCreateCategoryUseCase {
+
+    private final CreateCategoryUseCase useCase;
+    private final AsyncExecution execution;
+
+    public DefaultAsyncCreateCategoryUseCase(final CreateCategoryUseCase useCase, final AsyncExecution execution) {
+        this.useCase = requireNonNull(useCase);
+        this.execution = requireNonNull(execution);
+    }
+
+    @Override
+    public CompletableFuture<Either<Notification, CreateCategoryOutput>> execute(final CreateCategoryCommand anIn) {
+        return execute(anIn, this.execution.defaultDeadline());
+    }
+
+    @Override
+    public CompletableFuture<Either<Notification, CreateCategoryOutput>> execute(final CreateCategoryCommand anIn,
+                                                                                 final Deadline aDeadline) {
+        return this.execution.supply(aDeadline, () -> this.useCase.execute(anIn));
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static io.vavr.API.Try;
+import static java.util.Objects.requireNonNull;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway categoryGateway, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' must be greater than zero");
+        }
+        this.categoryGateway = requireNonNull(categoryGateway);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public List<Either<Notification, CreateCategoryOutput>> execute(final List<CreateCategoryCommand> aCommands) {
+        final var results = new ArrayList<Either<Notification, CreateCategoryOutput>>(
+                Collections.nCopies(aCommands.size(), null));
+        final var validIndexes = new ArrayList<Integer>(aCommands.size());
+        final var validCategories = new ArrayList<Category>(aCommands.size());
+
+        for (int i = 0; i < aCommands.size(); i++) {
+            final var aCommand = aCommands.get(i);
+            final var notification = Notification.create();
+            final var aCategory = Category.newCategory(aCommand.name(),
+                    aCommand.description(), aCommand.isActive());
+
+            aCategory.validate(notification);
+
+            if (notification.hasError()) {
+                results.set(i, Left(notification));
+            } else {
+                validIndexes.add(i);
+                validCategories.add(aCategory);
+            }
+        }
+
+        for (int from = 0; from < validCategories.size(); from += this.chunkSize) {
+            final var to = Math.min(from + this.chunkSize, validCategories.size());
+            final var aChunk = validCategories.subList(from, to);
+            final var chunkIndexes = validIndexes.subList(from, to);
+
+            Try(() -> this.categoryGateway.createAll(aChunk))
+                    .onSuccess(created -> {
+                        for (int i = 0; i < created.size(); i++) {
+                            results.set(chunkIndexes.get(i), Right(CreateCategoryOutput.from(created.get(i))));
+                        }
+                    })
+                    .onFailure(t -> chunkIndexes.forEach(index -> results.set(index, Left(Notification.create(t)))));
+        }
+
+        return results;
+    }
+
+}
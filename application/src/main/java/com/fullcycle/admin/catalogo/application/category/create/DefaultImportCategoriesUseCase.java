@@ -0,0 +1,118 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static io.vavr.API.Try;
+import static java.util.Objects.requireNonNull;
+
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+    private final int maxInFlightChunks;
+    private final Executor validationExecutor;
+
+    public DefaultImportCategoriesUseCase(final CategoryGateway categoryGateway, final int chunkSize,
+                                          final int maxInFlightChunks, final Executor validationExecutor) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' must be greater than zero");
+        }
+        if (maxInFlightChunks < 1) {
+            throw new IllegalArgumentException("'maxInFlightChunks' must be greater than zero");
+        }
+        this.categoryGateway = requireNonNull(categoryGateway);
+        this.chunkSize = chunkSize;
+        this.maxInFlightChunks = maxInFlightChunks;
+        this.validationExecutor = requireNonNull(validationExecutor);
+    }
+
+    // Chunks are validated in parallel but written in order, one transaction each, by the calling thread.
+    // Once maxInFlightChunks are pending no more rows are pulled, so the source is read only as fast as
+    // the database takes them and at most maxInFlightChunks * chunkSize rows are held at once.
+    @Override
+    public ImportCategoriesOutput execute(final ImportCategoriesCommand aCommand) {
+        final var start = System.nanoTime();
+        final var pending = new ArrayDeque<CompletableFuture<List<ValidatedRow>>>(this.maxInFlightChunks);
+        final var totals = new Totals();
+        final var rows = aCommand.rows();
+
+        var aChunk = new ArrayList<ImportCategoryRow>(this.chunkSize);
+        while (rows.hasNext()) {
+            aChunk.add(rows.next());
+            if (aChunk.size() == this.chunkSize) {
+                if (pending.size() == this.maxInFlightChunks) {
+                    write(pending.poll().join(), aCommand, totals);
+                }
+                pending.add(validate(aChunk));
+                aChunk = new ArrayList<>(this.chunkSize);
+            }
+        }
+        if (!aChunk.isEmpty()) {
+            pending.add(validate(aChunk));
+        }
+        while (!pending.isEmpty()) {
+            write(pending.poll().join(), aCommand, totals);
+        }
+
+        return new ImportCategoriesOutput(totals.imported, totals.failed, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private CompletableFuture<List<ValidatedRow>> validate(final List<ImportCategoryRow> aChunk) {
+        return CompletableFuture.supplyAsync(() -> aChunk.stream().map(DefaultImportCategoriesUseCase::validate)
+                .toList(), this.validationExecutor);
+    }
+
+    private void write(final List<ValidatedRow> aChunk, final ImportCategoriesCommand aCommand, final Totals totals) {
+        final var valid = new ArrayList<ValidatedRow>(aChunk.size());
+        for (final var row : aChunk) {
+            if (row.notification().hasError()) {
+                fail(row.line(), row.notification(), aCommand, totals);
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        Try(() -> this.categoryGateway.createAll(valid.stream().map(ValidatedRow::category).toList()))
+                .onSuccess(created -> totals.imported += created.size())
+                .onFailure(t -> valid.forEach(row -> fail(row.line(), Notification.create(t), aCommand, totals)));
+    }
+
+    private static void fail(final long aLine, final Notification aNotification,
+                             final ImportCategoriesCommand aCommand, final Totals totals) {
+        totals.failed++;
+        aCommand.onFailure().accept(new ImportCategoryFailure(aLine, aNotification));
+    }
+
+    private static ValidatedRow validate(final ImportCategoryRow aRow) {
+        return aRow.command().fold(
+                notification -> new ValidatedRow(aRow.line(), null, notification),
+                aCommand -> {
+                    final var notification = Notification.create();
+                    final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(),
+                            aCommand.isActive());
+                    aCategory.validate(notification);
+                    return new ValidatedRow(aRow.line(), aCategory, notification);
+                });
+    }
+
+    private record ValidatedRow(long line, Category category, Notification notification) {
+    }
+
+    private static final class Totals {
+        private long imported;
+        private long failed;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static java.util.Objects.requireNonNull;
+
+public class DefaultReactiveCreateCategoriesUseCase extends ReactiveCreateCategoriesUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+    private final int chunkSize;
+
+    public DefaultReactiveCreateCategoriesUseCase(final ReactiveCategoryGateway categoryGateway, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' must be greater than zero");
+        }
+        this.categoryGateway = requireNonNull(categoryGateway);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Mono<List<Either<Notification, CreateCategoryOutput>>> execute(final List<CreateCategoryCommand> aCommands) {
+        final var results = new ArrayList<Either<Notification, CreateCategoryOutput>>(
+                Collections.nCopies(aCommands.size(), null));
+        final var validIndexes = new ArrayList<Integer>(aCommands.size());
+        final var validCategories = new ArrayList<Category>(aCommands.size());
+
+        for (int i = 0; i < aCommands.size(); i++) {
+            final var aCommand = aCommands.get(i);
+            final var notification = Notification.create();
+            final var aCategory = Category.newCategory(aCommand.name(),
+                    aCommand.description(), aCommand.isActive());
+
+            aCategory.validate(notification);
+
+            if (notification.hasError()) {
+                results.set(i, Left(notification));
+            } else {
+                validIndexes.add(i);
+                validCategories.add(aCategory);
+            }
+        }
+
+        return Flux.range(0, (validCategories.size() + this.chunkSize - 1) / this.chunkSize)
+                .concatMap(chunk -> {
+                    final var from = chunk * this.chunkSize;
+                    final var to = Math.min(from + this.chunkSize, validCategories.size());
+                    final var chunkIndexes = validIndexes.subList(from, to);
+
+                    return this.categoryGateway.createAll(validCategories.subList(from, to))
+                            .collectList()
+                            .doOnNext(created -> {
+                                for (int i = 0; i < created.size(); i++) {
+                                    results.set(chunkIndexes.get(i), Right(CreateCategoryOutput.from(created.get(i))));
+                                }
+                            })
+                            .onErrorResume(t -> {
+                                chunkIndexes.forEach(index -> results.set(index, Left(Notification.create(t))));
+                                return Mono.empty();
+                            });
+                })
+                .then(Mono.fromSupplier(() -> results));
+    }
+
+}
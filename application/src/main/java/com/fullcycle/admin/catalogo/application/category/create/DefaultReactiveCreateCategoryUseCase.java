@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import reactor.core.publisher.Mono;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static java.util.Objects.requireNonNull;
+
+public class DefaultReactiveCreateCategoryUseCase extends ReactiveCreateCategoryUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveCreateCategoryUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<Either<Notification, CreateCategoryOutput>> execute(final CreateCategoryCommand aCommand) {
+        final var notification = Notification.create();
+        final var aCategory = Category.newCategory(aCommand.name(),
+                aCommand.description(), aCommand.isActive());
+
+        aCategory.validate(notification);
+
+        return notification.hasError() ? Mono.just(Left(notification)) : create(aCategory);
+    }
+
+    private Mono<Either<Notification, CreateCategoryOutput>> create(final Category aCategory) {
+        return this.categoryGateway.create(aCategory)
+                .<Either<Notification, CreateCategoryOutput>>map(created -> Right(CreateCategoryOutput.from(created)))
+                .onErrorResume(t -> Mono.just(Left(Notification.create(t))));
+    }
+
+}
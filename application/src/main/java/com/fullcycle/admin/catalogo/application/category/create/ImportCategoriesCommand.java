@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public record ImportCategoriesCommand(
+        Iterator<ImportCategoryRow> rows,
+        Consumer<ImportCategoryFailure> onFailure
+) {
+    public static ImportCategoriesCommand with(
+            final Iterator<ImportCategoryRow> aRows,
+            final Consumer<ImportCategoryFailure> anOnFailure
+    ) {
+        return new ImportCategoriesCommand(aRows, anOnFailure);
+    }
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import java.time.Duration;
+
+public record ImportCategoriesOutput(
+        long imported,
+        long failed,
+        Duration elapsed
+) {
+    public double rowsPerSecond() {
+        final var nanos = Math.max(1, this.elapsed.toNanos());
+        return (this.imported + this.failed) * 1_000_000_000d / nanos;
+    }
+}
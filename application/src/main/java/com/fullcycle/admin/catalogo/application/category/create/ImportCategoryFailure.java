@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+
+public record ImportCategoryFailure(
+        long line,
+        Notification notification
+) {
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+public record ImportCategoryRow(
+        long line,
+        Either<Notification, CreateCategoryCommand> command
+) {
+    public static ImportCategoryRow valid(final long aLine, final CreateCategoryCommand aCommand) {
+        return new ImportCategoryRow(aLine, Right(aCommand));
+    }
+
+    public static ImportCategoryRow invalid(final long aLine, final String aMessage) {
+        return new ImportCategoryRow(aLine, Left(Notification.create(new Error(aMessage))));
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.ReactiveUseCase;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public abstract class ReactiveCreateCategoriesUseCase extends
+        ReactiveUseCase<List<CreateCategoryCommand>, List<Either<Notification, CreateCategoryOutput>>> {
+}
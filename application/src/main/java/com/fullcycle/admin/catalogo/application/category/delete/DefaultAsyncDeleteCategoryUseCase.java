@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.application.AsyncExecution;
+import com.fullcycle.admin.catalogo.application.Deadline;
+
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+public class DefaultAsyncDeleteCategoryUseCase extends AsyncDeleteCategoryUseCase {
+
+    private final DeleteCategoryUseCase useCase;
+    private final AsyncExecution execution;
+
+    public DefaultAsyncDeleteCategoryUseCase(final DeleteCategoryUseCase useCase, final AsyncExecution execution) {
+        this.useCase = requireNonNull(useCase);
+        this.execution = requireNonNull(execution);
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(final String anIn) {
+        return execute(anIn, this.execution.defaultDeadline());
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(final String anIn, final Deadline aDeadline) {
+        return this.execution.supply(aDeadline, () -> {
+            this.useCase.execute(anIn);
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class DefaultReactiveDeleteCategoryUseCase extends ReactiveDeleteCategoryUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveDeleteCategoryUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<Void> execute(final String anId) {
+        return this.categoryGateway.deleteById(CategoryID.from(anId));
+    }
+
+}
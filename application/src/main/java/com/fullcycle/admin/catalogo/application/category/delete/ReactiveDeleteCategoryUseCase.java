@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.category.delete;
+
+import com.fullcycle.admin.catalogo.application.ReactiveUseCase;
+
+public abstract class ReactiveDeleteCategoryUseCase extends ReactiveUseCase<String, Void> {
+}
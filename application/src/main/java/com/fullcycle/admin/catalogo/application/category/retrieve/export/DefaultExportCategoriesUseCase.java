@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int batchSize;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway, final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("'batchSize' must be greater than zero");
+        }
+        this.categoryGateway = requireNonNull(categoryGateway);
+        this.batchSize = batchSize;
+    }
+
+    // Each batch is handed over as soon as it is read, so the caller can write and flush it before the next.
+    @Override
+    public Long execute(final Consumer<List<CategoryListOutput>> aConsumer) {
+        return this.categoryGateway.forEachBatch(this.batchSize, batch -> aConsumer
+                .accept(batch.stream().map(CategoryListOutput::from).toList()));
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public abstract class ExportCategoriesUseCase extends UseCase<Consumer<List<CategoryListOutput>>, Long> {
+}
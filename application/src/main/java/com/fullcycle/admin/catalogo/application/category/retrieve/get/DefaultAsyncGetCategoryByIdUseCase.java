@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.AsyncExecution;
+import com.fullcycle.admin.catalogo.application.Deadline;
+
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+public class DefaultAsyncGetCategoryByIdUseCase extends AsyncGetCategoryByIdUseCase {
+
+    private final GetCategoryByIdUseCase useCase;
+    private final AsyncExecution execution;
+
+    public DefaultAsyncGetCategoryByIdUseCase(final GetCategoryByIdUseCase useCase, final AsyncExecution execution) {
+        this.useCase = requireNonNull(useCase);
+        this.execution = requireNonNull(execution);
+    }
+
+    @Override
+    public CompletableFuture<CategoryOutput> execute(final String anIn) {
+        return execute(anIn, this.execution.defaultDeadline());
+    }
+
+    @Override
+    public CompletableFuture<CategoryOutput> execute(final String anIn, final Deadline aDeadline) {
+        return this.execution.supply(aDeadline, () -> this.useCase.execute(anIn));
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+// Resolves many ids with one gateway call instead of one findById each. Unknown ids are left out of the
+// output, which keeps the order of the request.
+public class DefaultGetCategoriesByIdsUseCase extends GetCategoriesByIdsUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int maxIds;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway categoryGateway, final int maxIds) {
+        if (maxIds < 1) {
+            throw new IllegalArgumentException("'maxIds' must be greater than zero");
+        }
+        this.categoryGateway = requireNonNull(categoryGateway);
+        this.maxIds = maxIds;
+    }
+
+    @Override
+    public List<CategoryOutput> execute(final List<String> anIds) {
+        if (anIds.size() > this.maxIds) {
+            throw DomainException.with(new Error("'ids' must have at most %d ids".formatted(this.maxIds)));
+        }
+        if (anIds.isEmpty()) {
+            return List.of();
+        }
+        return this.categoryGateway.findAllByIds(anIds.stream().map(CategoryID::from).toList()).stream()
+                .map(CategoryOutput::from)
+                .toList();
+    }
+
+}
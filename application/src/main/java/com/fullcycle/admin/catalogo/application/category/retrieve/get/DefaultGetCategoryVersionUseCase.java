@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.validation.Error;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+public class DefaultGetCategoryVersionUseCase extends GetCategoryVersionUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoryVersionUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = requireNonNull(categoryGateway);
+    }
+
+    // Same rounding as CategoryOutput, so the version matches the updatedAt a full read returns.
+    @Override
+    public Instant execute(final String anIn) {
+        final var categoryID = CategoryID.from(anIn);
+        return this.categoryGateway.findUpdatedAtById(categoryID)
+                .map(updatedAt -> updatedAt.plusNanos(500).truncatedTo(ChronoUnit.MICROS))
+                .orElseThrow(notFound(categoryID));
+    }
+
+    private Supplier<DomainException> notFound(final CategoryID anId) {
+        return () -> DomainException.with(new Error("Category with ID %s was not found"
+                .formatted(anId.getValue())));
+    }
+
+}
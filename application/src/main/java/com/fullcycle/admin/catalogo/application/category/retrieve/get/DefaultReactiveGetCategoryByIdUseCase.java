@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.validation.Error;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+public class DefaultReactiveGetCategoryByIdUseCase extends ReactiveGetCategoryByIdUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveGetCategoryByIdUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<CategoryOutput> execute(final String anIn) {
+        final var categoryID = CategoryID.from(anIn);
+        return this.categoryGateway.findById(categoryID)
+                .map(CategoryOutput::from)
+                .switchIfEmpty(Mono.error(notFound(categoryID)));
+    }
+
+    private Supplier<DomainException> notFound(final CategoryID anId) {
+        return () -> DomainException.with(new Error("Category with ID %s was not found"
+                .formatted(anId.getValue())));
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.time.Instant;
+
+public abstract class GetCategoryVersionUseCase extends UseCase<String, Instant> {
+}
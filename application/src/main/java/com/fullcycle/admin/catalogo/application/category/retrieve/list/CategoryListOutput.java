@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.application.category.retrieve.list;
 
 import com.fullcycle.catalogo.domain.category.Category;
 import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
 
 import java.time.Instant;
 
@@ -23,4 +24,14 @@ public record CategoryListOutput(
                 aCategory.getUpdatedAt(),
                 aCategory.getDeletedAt());
     }
+
+    public static CategoryListOutput from(final CategorySummary aSummary) {
+        return new CategoryListOutput(aSummary.id(),
+                aSummary.name(),
+                aSummary.description(),
+                aSummary.active(),
+                aSummary.createdAt(),
+                aSummary.updatedAt(),
+                aSummary.deletedAt());
+    }
 }
@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.AsyncExecution;
+import com.fullcycle.admin.catalogo.application.Deadline;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+public class DefaultAsyncListCategoriesUseCase extends AsyncListCategoriesUseCase {
+
+    private final ListCategoriesUseCase useCase;
+    private final AsyncExecution execution;
+
+    public DefaultAsyncListCategoriesUseCase(final ListCategoriesUseCase useCase, final AsyncExecution execution) {
+        this.useCase = requireNonNull(useCase);
+        this.execution = requireNonNull(execution);
+    }
+
+    @Override
+    public CompletableFuture<Pagination<CategoryListOutput>> execute(final CategorySearchQuery anIn) {
+        return execute(anIn, this.execution.defaultDeadline());
+    }
+
+    @Override
+    public CompletableFuture<Pagination<CategoryListOutput>> execute(final CategorySearchQuery anIn,
+                                                                     final Deadline aDeadline) {
+        return this.execution.supply(aDeadline, () -> this.useCase.execute(anIn));
+    }
+
+}
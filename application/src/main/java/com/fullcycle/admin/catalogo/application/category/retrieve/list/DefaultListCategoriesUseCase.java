@@ -24,7 +24,7 @@ public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
     @Override
     public Pagination<CategoryListOutput> execute(CategorySearchQuery aQuery) {
-        return this.categoryGateway.findAll(aQuery).map(CategoryListOutput::from);
+        return this.categoryGateway.findAllSummaries(aQuery).map(CategoryListOutput::from);
     }
 
 }
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import reactor.core.publisher.Mono;
+
+import static java.util.Objects.requireNonNull;
+
+public class DefaultReactiveListCategoriesUseCase extends ReactiveListCategoriesUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveListCategoriesUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<Pagination<CategoryListOutput>> execute(final CategorySearchQuery aQuery) {
+        return this.categoryGateway.findAllSummaries(aQuery)
+                .map(aPage -> aPage.map(CategoryListOutput::from));
+    }
+
+}
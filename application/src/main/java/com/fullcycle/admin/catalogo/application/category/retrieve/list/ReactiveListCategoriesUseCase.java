@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.ReactiveUseCase;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+
+public abstract class ReactiveListCategoriesUseCase extends
+        ReactiveUseCase<CategorySearchQuery, Pagination<CategoryListOutput>> {
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.application.AsyncUseCase;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class AsyncUpdateCategoryUseCase extends
+        AsyncUseCase<UpdateCategoryCommand, Either<Notification, UpdateCategoryOutput>> {
+}
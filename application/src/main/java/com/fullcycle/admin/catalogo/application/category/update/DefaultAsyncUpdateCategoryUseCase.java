@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.application.AsyncExecution;
+import com.fullcycle.admin.catalogo.application.Deadline;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+public class DefaultAsyncUpdateCategoryUseCase extends AsyncUpdateCategoryUseCase {
+
+    private final UpdateCategoryUseCase useCase;
+    private final AsyncExecution execution;
+
+    public DefaultAsyncUpdateCategoryUseCase(final UpdateCategoryUseCase useCase, final AsyncExecution execution) {
+        this.useCase = requireNonNull(useCase);
+        this.execution = requireNonNull(execution);
+    }
+
+    @Override
+    public CompletableFuture<Either<Notification, UpdateCategoryOutput>> execute(final UpdateCategoryCommand anIn) {
+        return execute(anIn, this.execution.defaultDeadline());
+    }
+
+    @Override
+    public CompletableFuture<Either<Notification, UpdateCategoryOutput>> execute(final UpdateCategoryCommand anIn,
+                                                                                 final Deadline aDeadline) {
+        return this.execution.supply(aDeadline, () -> this.useCase.execute(anIn));
+    }
+
+}
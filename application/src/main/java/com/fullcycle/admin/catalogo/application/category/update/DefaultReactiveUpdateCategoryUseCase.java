@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static java.util.Objects.requireNonNull;
+
+public class DefaultReactiveUpdateCategoryUseCase extends ReactiveUpdateCategoryUseCase {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public DefaultReactiveUpdateCategoryUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<Either<Notification, UpdateCategoryOutput>> execute(final UpdateCategoryCommand aCommand) {
+        final var anId = CategoryID.from(aCommand.id());
+
+        return this.categoryGateway.findById(anId)
+                .switchIfEmpty(Mono.error(notFound(anId)))
+                .flatMap(aCategory -> {
+                    final var notification = Notification.create();
+                    aCategory.update(aCommand.name(), aCommand.description(), aCommand.isActive())
+                            .validate(notification);
+                    return notification.hasError() ? Mono.just(Left(notification)) : update(aCategory);
+                });
+    }
+
+    private Mono<Either<Notification, UpdateCategoryOutput>> update(final Category aCategory) {
+        return this.categoryGateway.update(aCategory)
+                .<Either<Notification, UpdateCategoryOutput>>map(updated -> Right(UpdateCategoryOutput.from(updated)))
+                .onErrorResume(t -> Mono.just(Left(Notification.create(t))));
+    }
+
+    private Supplier<DomainException> notFound(final CategoryID anId) {
+        return () -> DomainException.with(new Error("Category with ID %s was not found"
+                .formatted(anId.getValue())));
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.application.ReactiveUseCase;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class ReactiveUpdateCategoryUseCase extends
+        ReactiveUseCase<UpdateCategoryCommand, Either<Notification, UpdateCategoryOutput>> {
+}
@@ -0,0 +1,101 @@
+package com.fullcycle.admin.catalogo.application.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoriesUseCase;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateCategoriesUseCaseTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private DefaultCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(categoryGateway);
+        useCase = new DefaultCreateCategoriesUseCase(categoryGateway, CHUNK_SIZE);
+    }
+
+    @Test
+    void givenValidCommands_whenCallsCreateCategories_shouldCreateInChunksAndKeepOrder() {
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Series", null, true),
+                CreateCategoryCommand.with("Documentarios", null, false));
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualResults = useCase.execute(commands);
+
+        assertEquals(commands.size(), actualResults.size());
+        assertTrue(actualResults.stream().allMatch(result -> result.isRight()));
+        verify(categoryGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 2
+                && chunk.get(0).getName().equals("Filmes")
+                && chunk.get(1).getName().equals("Series")));
+        verify(categoryGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 1
+                && chunk.get(0).getName().equals("Documentarios")));
+    }
+
+    @Test
+    void givenAnInvalidCommand_whenCallsCreateCategories_shouldReturnItsNotificationAndCreateTheOthers() {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Series", null, true));
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualResults = useCase.execute(commands);
+
+        assertTrue(actualResults.get(0).isRight());
+        assertEquals(expectedErrorMessage, actualResults.get(1).getLeft().firstError().message());
+        assertTrue(actualResults.get(2).isRight());
+        verify(categoryGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 2));
+    }
+
+    @Test
+    void givenAGatewayError_whenCallsCreateCategories_shouldFailOnlyTheItemsOfThatChunk() {
+        final var expectedErrorMessage = "Gateway error";
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Series", null, true),
+                CreateCategoryCommand.with("Documentarios", null, true));
+
+        when(categoryGateway.createAll(argThat(chunk -> chunk != null && chunk.size() == 2)))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+        when(categoryGateway.createAll(argThat(chunk -> chunk != null && chunk.size() == 1)))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualResults = useCase.execute(commands);
+
+        assertEquals(expectedErrorMessage, actualResults.get(0).getLeft().firstError().message());
+        assertEquals(expectedErrorMessage, actualResults.get(1).getLeft().firstError().message());
+        assertTrue(actualResults.get(2).isRight());
+    }
+
+    @Test
+    void givenAnInvalidChunkSize_whenInstantiates_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new DefaultCreateCategoriesUseCase(categoryGateway, 0));
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.fullcycle.admin.catalogo.application.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoryFailure;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoryRow;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportCategoriesUseCaseTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final int MAX_IN_FLIGHT_CHUNKS = 1;
+
+    private DefaultImportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(categoryGateway);
+        useCase = new DefaultImportCategoriesUseCase(categoryGateway, CHUNK_SIZE, MAX_IN_FLIGHT_CHUNKS, Runnable::run);
+    }
+
+    @Test
+    void givenValidRows_whenCallsImportCategories_shouldWriteOneChunkPerTransactionInOrder() {
+        final var rows = List.of(
+                ImportCategoryRow.valid(1, CreateCategoryCommand.with("Filmes", null, true)),
+                ImportCategoryRow.valid(2, CreateCategoryCommand.with("Series", null, true)),
+                ImportCategoryRow.valid(3, CreateCategoryCommand.with("Documentarios", null, false)));
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(rows.iterator(), failure -> {
+            throw new AssertionError("Unexpected failure at line " + failure.line());
+        }));
+
+        assertEquals(3, actualOutput.imported());
+        assertEquals(0, actualOutput.failed());
+        assertTrue(actualOutput.rowsPerSecond() > 0);
+        final var inOrder = inOrder(categoryGateway);
+        inOrder.verify(categoryGateway).createAll(argThat(chunk -> chunk.size() == 2
+                && chunk.get(0).getName().equals("Filmes")
+                && chunk.get(1).getName().equals("Series")));
+        inOrder.verify(categoryGateway).createAll(argThat(chunk -> chunk.size() == 1
+                && chunk.get(0).getName().equals("Documentarios")));
+    }
+
+    @Test
+    void givenInvalidRows_whenCallsImportCategories_shouldReportTheirLinesAndWriteTheOthers() {
+        final var rows = List.of(
+                ImportCategoryRow.valid(1, CreateCategoryCommand.with("Filmes", null, true)),
+                ImportCategoryRow.valid(2, CreateCategoryCommand.with(null, null, true)),
+                ImportCategoryRow.invalid(3, "Malformed JSON"),
+                ImportCategoryRow.valid(4, CreateCategoryCommand.with("Series", null, true)));
+        final var failures = new ArrayList<ImportCategoryFailure>();
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(rows.iterator(), failures::add));
+
+        assertEquals(2, actualOutput.imported());
+        assertEquals(2, actualOutput.failed());
+        assertEquals(2, failures.size());
+        assertEquals(2, failures.get(0).line());
+        assertEquals("'name' should not be null", failures.get(0).notification().firstError().message());
+        assertEquals(3, failures.get(1).line());
+        assertEquals("Malformed JSON", failures.get(1).notification().firstError().message());
+    }
+
+    @Test
+    void givenAGatewayError_whenCallsImportCategories_shouldFailOnlyTheRowsOfThatChunk() {
+        final var expectedErrorMessage = "Gateway error";
+        final var rows = List.of(
+                ImportCategoryRow.valid(1, CreateCategoryCommand.with("Filmes", null, true)),
+                ImportCategoryRow.valid(2, CreateCategoryCommand.with("Series", null, true)),
+                ImportCategoryRow.valid(3, CreateCategoryCommand.with("Documentarios", null, true)));
+        final var failures = new ArrayList<ImportCategoryFailure>();
+
+        when(categoryGateway.createAll(any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(rows.iterator(), failures::add));
+
+        assertEquals(1, actualOutput.imported());
+        assertEquals(2, actualOutput.failed());
+        assertEquals(List.of(1L, 2L), failures.stream().map(ImportCategoryFailure::line).toList());
+        assertEquals(expectedErrorMessage, failures.get(0).notification().firstError().message());
+    }
+
+    @Test
+    void givenAFullWindow_whenCallsImportCategories_shouldWriteBeforeReadingMoreRows() {
+        final var read = new ArrayList<Long>();
+        final var source = List.of(
+                ImportCategoryRow.valid(1, CreateCategoryCommand.with("Filmes", null, true)),
+                ImportCategoryRow.valid(2, CreateCategoryCommand.with("Series", null, true)),
+                ImportCategoryRow.valid(3, CreateCategoryCommand.with("Documentarios", null, true)),
+                ImportCategoryRow.valid(4, CreateCategoryCommand.with("Animes", null, true)),
+                ImportCategoryRow.valid(5, CreateCategoryCommand.with("Novelas", null, true))).iterator();
+        final var rows = new Iterator<ImportCategoryRow>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public ImportCategoryRow next() {
+                final var aRow = source.next();
+                read.add(aRow.line());
+                return aRow;
+            }
+        };
+        final var readWhenWriting = new ArrayList<Integer>();
+
+        when(categoryGateway.createAll(any())).thenAnswer(invocation -> {
+            readWhenWriting.add(read.size());
+            return invocation.getArgument(0);
+        });
+
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(rows, failure -> {
+        }));
+
+        assertEquals(5, actualOutput.imported());
+        assertEquals(List.of(4, 5, 5), readWhenWriting);
+    }
+
+    @Test
+    void givenAnInvalidChunkSize_whenCreatesUseCase_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DefaultImportCategoriesUseCase(categoryGateway, 0, MAX_IN_FLIGHT_CHUNKS, Runnable::run));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DefaultImportCategoriesUseCase(categoryGateway, CHUNK_SIZE, 0, Runnable::run));
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.fullcycle.admin.catalogo.application.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultReactiveCreateCategoriesUseCase;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCreateCategoriesUseCaseTest {
+
+    private DefaultReactiveCreateCategoriesUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DefaultReactiveCreateCategoriesUseCase(categoryGateway, 2);
+    }
+
+    @Test
+    void givenValidAndInvalidCommands_whenCallsCreateCategories_shouldKeepInputOrder() {
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Series", null, true),
+                CreateCategoryCommand.with("Documentarios", null, false));
+
+        when(categoryGateway.createAll(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<Category>>getArgument(0)));
+
+        StepVerifier.create(useCase.execute(aCommands))
+                .assertNext(results -> {
+                    assertEquals(4, results.size());
+                    assertTrue(results.get(0).isRight());
+                    assertEquals("'name' should not be null", results.get(1).getLeft().firstError().message());
+                    assertTrue(results.get(2).isRight());
+                    assertTrue(results.get(3).isRight());
+                })
+                .verifyComplete();
+
+        verify(categoryGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 2));
+        verify(categoryGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 1));
+    }
+
+    @Test
+    void givenAFailingChunk_whenCallsCreateCategories_shouldOnlyFailThatChunk() {
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Series", null, true),
+                CreateCategoryCommand.with("Documentarios", null, true));
+
+        when(categoryGateway.createAll(anyList()))
+                .thenReturn(Flux.error(new IllegalStateException("Gateway error")))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<Category>>getArgument(0)));
+
+        StepVerifier.create(useCase.execute(aCommands))
+                .assertNext(results -> {
+                    assertEquals("Gateway error", results.get(0).getLeft().firstError().message());
+                    assertEquals("Gateway error", results.get(1).getLeft().firstError().message());
+                    assertTrue(results.get(2).isRight());
+                })
+                .verifyComplete();
+    }
+
+}
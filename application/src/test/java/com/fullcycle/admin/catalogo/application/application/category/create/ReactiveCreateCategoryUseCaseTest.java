@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.application.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultReactiveCreateCategoryUseCase;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCreateCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultReactiveCreateCategoryUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    @Test
+    void givenAValidCommand_whenCallsCreateCategory_shouldEmitCategoryId() {
+        final var aCommand = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+
+        when(categoryGateway.create(any())).thenAnswer(invocation -> Mono.just(invocation.<Category>getArgument(0)));
+
+        StepVerifier.create(useCase.execute(aCommand))
+                .assertNext(result -> assertEquals(36, result.get().id().getValue().length()))
+                .verifyComplete();
+
+        verify(categoryGateway, times(1)).create(argThat(aCategory ->
+                Objects.equals("Filmes", aCategory.getName()) && aCategory.isActive()));
+    }
+
+    @Test
+    void givenAInvalidName_whenCallsCreateCategory_shouldEmitNotificationWithoutCallingGateway() {
+        final var aCommand = CreateCategoryCommand.with(null, "A categoria mais assistida", true);
+
+        StepVerifier.create(useCase.execute(aCommand))
+                .assertNext(result -> assertEquals("'name' should not be null", result.getLeft().firstError().message()))
+                .verifyComplete();
+
+        verify(categoryGateway, never()).create(any());
+    }
+
+    @Test
+    void givenAValidCommand_whenGatewayEmitsError_shouldEmitNotification() {
+        final var aCommand = CreateCategoryCommand.with("Filmes", null, true);
+
+        when(categoryGateway.create(any())).thenReturn(Mono.error(new IllegalStateException("Gateway error")));
+
+        StepVerifier.create(useCase.execute(aCommand))
+                .assertNext(result -> assertEquals("Gateway error", result.getLeft().firstError().message()))
+                .verifyComplete();
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalogo.application.application.category.delete;
+
+import com.fullcycle.admin.catalogo.application.category.delete.DefaultReactiveDeleteCategoryUseCase;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveDeleteCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultReactiveDeleteCategoryUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    @Test
+    void givenAnId_whenCallsDeleteCategory_shouldCompleteAfterGateway() {
+        final var expectedId = CategoryID.unique();
+
+        when(categoryGateway.deleteById(eq(expectedId))).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.execute(expectedId.getValue())).verifyComplete();
+
+        verify(categoryGateway, times(1)).deleteById(eq(expectedId));
+    }
+
+    @Test
+    void givenAnId_whenGatewayEmitsError_shouldPropagateError() {
+        final var expectedId = CategoryID.unique();
+
+        when(categoryGateway.deleteById(eq(expectedId))).thenReturn(Mono.error(new IllegalStateException("Gateway error")));
+
+        StepVerifier.create(useCase.execute(expectedId.getValue()))
+                .verifyErrorMessage("Gateway error");
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.application.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportCategoriesUseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenStoredCategories_whenCallsExport_shouldHandOverEachGatewayBatch() {
+        final var filmes = CategorySummary.from(Category.newCategory("Filmes", null, true));
+        final var series = CategorySummary.from(Category.newCategory("Series", null, true));
+        final var documentarios = CategorySummary.from(Category.newCategory("Documentarios", null, false));
+        final var expectedBatchSize = 2;
+
+        when(categoryGateway.forEachBatch(eq(expectedBatchSize), any())).then(invocation -> {
+            final Consumer<List<CategorySummary>> consumer = invocation.getArgument(1);
+            consumer.accept(List.of(filmes, series));
+            consumer.accept(List.of(documentarios));
+            return 3L;
+        });
+        final var batches = new ArrayList<List<CategoryListOutput>>();
+
+        final var actualCount = new DefaultExportCategoriesUseCase(categoryGateway, expectedBatchSize)
+                .execute(batches::add);
+
+        assertEquals(3L, actualCount);
+        assertEquals(List.of(List.of(CategoryListOutput.from(filmes), CategoryListOutput.from(series)),
+                List.of(CategoryListOutput.from(documentarios))), batches);
+    }
+
+    @Test
+    void givenAnInvalidBatchSize_whenCreatesUseCase_shouldFail() {
+        assertThrows(IllegalArgumentException.class, () -> new DefaultExportCategoriesUseCase(categoryGateway, 0));
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.fullcycle.admin.catalogo.application.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.AsyncExecution;
+import com.fullcycle.admin.catalogo.application.Deadline;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultAsyncGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncGetCategoryByIdUseCaseTest {
+
+    private ThreadPoolExecutor executor;
+
+    private DefaultAsyncGetCategoryByIdUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1));
+        useCase = new DefaultAsyncGetCategoryByIdUseCase(new DefaultGetCategoryByIdUseCase(categoryGateway),
+                new AsyncExecution(executor, Duration.ofSeconds(5)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenAValidId_whenCallsGetCategory_shouldCompleteWithTheDeadlineVisibleToTheGateway() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var seenDeadline = new CompletableFuture<Optional<Deadline>>();
+
+        when(categoryGateway.findById(eq(aCategory.getId()))).thenAnswer(invocation -> {
+            seenDeadline.complete(Deadline.current());
+            return Optional.of(aCategory);
+        });
+
+        final var actualOutput = useCase.execute(aCategory.getId().getValue()).get(5, TimeUnit.SECONDS);
+
+        assertEquals(aCategory.getId(), actualOutput.id());
+        assertTrue(seenDeadline.get().isPresent());
+        assertTrue(seenDeadline.get().get().remaining().compareTo(Duration.ofSeconds(5)) <= 0);
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsGetCategory_shouldCompleteWithNotFound() {
+        final var expectedId = CategoryID.unique();
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.empty());
+
+        final var actualException = assertThrows(ExecutionException.class,
+                () -> useCase.execute(expectedId.getValue()).get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(DomainException.class, actualException.getCause());
+        assertEquals("Category with ID %s was not found".formatted(expectedId.getValue()),
+                actualException.getCause().getMessage());
+    }
+
+    @Test
+    void givenASlowGateway_whenTheDeadlinePasses_shouldTimeOutAndInterruptTheCall() throws Exception {
+        final var interrupted = new CountDownLatch(1);
+
+        when(categoryGateway.findById(any())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (final InterruptedException ex) {
+                interrupted.countDown();
+            }
+            return Optional.empty();
+        });
+
+        final var aFuture = useCase.execute(CategoryID.unique().getValue(), Deadline.after(Duration.ofMillis(50)));
+
+        final var actualException = assertThrows(ExecutionException.class, () -> aFuture.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, actualException.getCause());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void givenARunningCall_whenCancelled_shouldInterruptTheGateway() throws Exception {
+        final var entered = new CountDownLatch(1);
+        final var interrupted = new CountDownLatch(1);
+
+        when(categoryGateway.findById(any())).thenAnswer(invocation -> {
+            entered.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (final InterruptedException ex) {
+                interrupted.countDown();
+            }
+            return Optional.empty();
+        });
+
+        final var aFuture = useCase.execute(CategoryID.unique().getValue());
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        aFuture.cancel(true);
+
+        assertThrows(CancellationException.class, aFuture::join);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void givenAFullExecutor_whenCallsGetCategory_shouldFailFastWithRejectedExecution() throws Exception {
+        final var entered = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        when(categoryGateway.findById(any())).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        useCase.execute(CategoryID.unique().getValue());
+        useCase.execute(CategoryID.unique().getValue());
+        final var rejected = useCase.execute(CategoryID.unique().getValue());
+
+        final var actualException = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, actualException.getCause());
+        // The stub must have been reached before the test ends, or strict stubs report it as unused.
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+}
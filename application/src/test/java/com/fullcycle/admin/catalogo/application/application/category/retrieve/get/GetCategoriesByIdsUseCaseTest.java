@@ -0,0 +1,71 @@
+package com.fullcycle.admin.catalogo.application.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoriesByIdsUseCase;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetCategoriesByIdsUseCaseTest {
+
+    private DefaultGetCategoriesByIdsUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DefaultGetCategoriesByIdsUseCase(categoryGateway, 3);
+    }
+
+    @Test
+    void givenValidIds_whenCallsGetCategories_shouldReturnWhatTheGatewayFoundWithASingleCall() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var unknown = CategoryID.unique();
+
+        when(categoryGateway.findAllByIds(eq(List.of(series.getId(), unknown, filmes.getId()))))
+                .thenReturn(List.of(series, filmes));
+
+        final var actualOutput = useCase.execute(List.of(series.getId().getValue(), unknown.getValue(),
+                filmes.getId().getValue()));
+
+        assertEquals(List.of(CategoryOutput.from(series), CategoryOutput.from(filmes)), actualOutput);
+    }
+
+    @Test
+    void givenNoIds_whenCallsGetCategories_shouldNotCallTheGateway() {
+        assertTrue(useCase.execute(List.of()).isEmpty());
+
+        verify(categoryGateway, never()).findAllByIds(any());
+    }
+
+    @Test
+    void givenMoreIdsThanAllowed_whenCallsGetCategories_shouldThrowDomainException() {
+        final var anIds = List.of("1", "2", "3", "4");
+
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(anIds));
+
+        assertEquals("'ids' must have at most 3 ids", actualException.getErrors().get(0).message());
+        verify(categoryGateway, never()).findAllByIds(any());
+    }
+
+}
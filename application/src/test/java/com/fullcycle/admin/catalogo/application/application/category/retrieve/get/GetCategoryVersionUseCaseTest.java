@@ -0,0 +1,59 @@
+package com.fullcycle.admin.catalogo.application.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryVersionUseCase;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetCategoryVersionUseCaseTest {
+
+    @InjectMocks
+    private DefaultGetCategoryVersionUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenAValidId_whenCallsGetCategoryVersion_shouldReturnTheUpdatedAtOfAFullRead() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findUpdatedAtById(eq(expectedId))).thenReturn(Optional.of(aCategory.getUpdatedAt()));
+
+        final var actualVersion = useCase.execute(expectedId.getValue());
+
+        assertEquals(CategoryOutput.from(aCategory).updatedAt(), actualVersion);
+        verify(categoryGateway, never()).findById(any());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsGetCategoryVersion_shouldReturnNotFound() {
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+        final var expectedId = CategoryID.from("123");
+
+        when(categoryGateway.findUpdatedAtById(eq(expectedId))).thenReturn(Optional.empty());
+
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(expectedId.getValue()));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+}
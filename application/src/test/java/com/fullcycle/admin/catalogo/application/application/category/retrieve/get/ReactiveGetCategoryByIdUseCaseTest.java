@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalogo.application.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultReactiveGetCategoryByIdUseCase;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveGetCategoryByIdUseCaseTest {
+
+    @InjectMocks
+    private DefaultReactiveGetCategoryByIdUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    @Test
+    void givenAValidId_whenCallsGetCategory_shouldEmitCategory() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        when(categoryGateway.findById(eq(aCategory.getId()))).thenReturn(Mono.just(aCategory));
+
+        StepVerifier.create(useCase.execute(aCategory.getId().getValue()))
+                .assertNext(output -> {
+                    assertEquals(aCategory.getId(), output.id());
+                    assertEquals("Filmes", output.name());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsGetCategory_shouldEmitNotFound() {
+        final var expectedId = CategoryID.unique();
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.execute(expectedId.getValue()))
+                .expectErrorSatisfies(error -> assertEquals(
+                        "Category with ID %s was not found".formatted(expectedId.getValue()),
+                        ((DomainException) error).getErrors().get(0).message()))
+                .verify();
+    }
+
+}
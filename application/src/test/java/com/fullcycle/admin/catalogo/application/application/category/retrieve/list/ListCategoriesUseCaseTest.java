@@ -5,6 +5,7 @@ import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultLi
 import com.fullcycle.catalogo.domain.category.Category;
 import com.fullcycle.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
 import com.fullcycle.catalogo.domain.pagination.Pagination;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,8 +39,8 @@ public class ListCategoriesUseCaseTest {
     @Test
     void givenAValidQuery_whenCallsListCategories_thenShouldReturnCategories() {
         final var categories = List.of(
-                Category.newCategory("Filmes", null, true),
-                Category.newCategory("Series", null, true));
+                CategorySummary.from(Category.newCategory("Filmes", null, true)),
+                CategorySummary.from(Category.newCategory("Series", null, true)));
 
         final var expectedPage = 0;
         final var expectedPerPage = 0;
@@ -53,7 +54,7 @@ public class ListCategoriesUseCaseTest {
         final var expectedItemsCount = 2;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(eq(aQuery))).thenReturn(expectedPagination);
+        when(categoryGateway.findAllSummaries(eq(aQuery))).thenReturn(expectedPagination);
 
         final var actualResult = useCase.execute(aQuery);
 
@@ -66,7 +67,7 @@ public class ListCategoriesUseCaseTest {
 
     @Test
     void givenAValidQuery_whenHasNoResults_thenShouldReturnEmptyCategories() {
-        final var categories = List.<Category>of();
+        final var categories = List.<CategorySummary>of();
 
         final var expectedPage = 0;
         final var expectedPerPage = 0;
@@ -80,7 +81,7 @@ public class ListCategoriesUseCaseTest {
         final var expectedItemsCount = 0;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(eq(aQuery))).thenReturn(expectedPagination);
+        when(categoryGateway.findAllSummaries(eq(aQuery))).thenReturn(expectedPagination);
 
         final var actualResult = useCase.execute(aQuery);
 
@@ -103,7 +104,7 @@ public class ListCategoriesUseCaseTest {
         final var aQuery = new CategorySearchQuery(expectedPage, expectedPerPage, expectedTerms,
                 expectedSort, expectedDirection);
 
-        when(categoryGateway.findAll(eq(aQuery))).thenThrow(new IllegalStateException(expectedErrorMessage));
+        when(categoryGateway.findAllSummaries(eq(aQuery))).thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var actualException = assertThrows(IllegalStateException.class,
                 () -> useCase.execute(aQuery));
@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalogo.application.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultReactiveListCategoriesUseCase;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveListCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultReactiveListCategoriesUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    @Test
+    void givenAValidQuery_whenCallsListCategories_shouldEmitMappedPage() {
+        final var categories = List.of(Category.newCategory("Filmes", null, true),
+                Category.newCategory("Series", null, true));
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var aPage = new Pagination<>(0, 10, 2, categories.stream().map(CategorySummary::from).toList());
+
+        when(categoryGateway.findAllSummaries(eq(aQuery))).thenReturn(Mono.just(aPage));
+
+        StepVerifier.create(useCase.execute(aQuery))
+                .assertNext(actualResult -> {
+                    assertEquals(2, actualResult.total());
+                    assertEquals(categories.get(0).getId(), actualResult.items().get(0).id());
+                    assertEquals("Series", actualResult.items().get(1).name());
+                })
+                .verifyComplete();
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.fullcycle.admin.catalogo.application.application.category.update;
+
+import com.fullcycle.admin.catalogo.application.category.update.DefaultReactiveUpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveUpdateCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultReactiveUpdateCategoryUseCase useCase;
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    @Test
+    void givenAValidCommand_whenCallsUpdateCategory_shouldEmitCategoryId() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var aCommand = UpdateCategoryCommand.with(aCategory.getId().getValue(), "Filmes",
+                "A categoria mais assistida", false);
+
+        when(categoryGateway.findById(eq(aCategory.getId()))).thenReturn(Mono.just(aCategory.clone()));
+        when(categoryGateway.update(any())).thenAnswer(invocation -> Mono.just(invocation.<Category>getArgument(0)));
+
+        StepVerifier.create(useCase.execute(aCommand))
+                .assertNext(result -> assertEquals(aCategory.getId(), result.get().id()))
+                .verifyComplete();
+
+        verify(categoryGateway, times(1)).update(argThat(anUpdated ->
+                Objects.equals("Filmes", anUpdated.getName())
+                        && !anUpdated.isActive()
+                        && anUpdated.getDeletedAt() != null));
+    }
+
+    @Test
+    void givenAInvalidName_whenCallsUpdateCategory_shouldEmitNotificationWithoutUpdating() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var aCommand = UpdateCategoryCommand.with(aCategory.getId().getValue(), null, null, true);
+
+        when(categoryGateway.findById(eq(aCategory.getId()))).thenReturn(Mono.just(aCategory.clone()));
+
+        StepVerifier.create(useCase.execute(aCommand))
+                .assertNext(result -> assertEquals("'name' should not be null", result.getLeft().firstError().message()))
+                .verifyComplete();
+
+        verify(categoryGateway, never()).update(any());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsUpdateCategory_shouldEmitNotFound() {
+        final var expectedId = CategoryID.unique();
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true);
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.execute(aCommand))
+                .expectErrorSatisfies(error -> assertEquals(
+                        "Category with ID %s was not found".formatted(expectedId.getValue()),
+                        ((DomainException) error).getErrors().get(0).message()))
+                .verify();
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.fullcycle.catalogo.domain.category;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryIDBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public String randomUuid() {
+        return UUID.randomUUID().toString().toLowerCase();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String timeOrderedUuid() {
+        return CategoryID.unique().getValue();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String randomUuidContended() {
+        return UUID.randomUUID().toString().toLowerCase();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String timeOrderedUuidContended() {
+        return CategoryID.unique().getValue();
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.fullcycle.catalogo.domain.category;
+
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+public enum CategoryField {
+
+    ID("id"),
+    NAME("name"),
+    DESCRIPTION("description"),
+    ACTIVE("active"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    DELETED_AT("deletedAt");
+
+    public static final Set<CategoryField> ALL = Collections.unmodifiableSet(EnumSet.allOf(CategoryField.class));
+
+    private final String fieldName;
+
+    CategoryField(final String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    // A comma-separated list of field names, as in fields=id,name; blank means every field.
+    public static Set<CategoryField> parse(final String aFields) {
+        if (aFields == null || aFields.isBlank()) {
+            return ALL;
+        }
+        final var fields = EnumSet.noneOf(CategoryField.class);
+        for (final var aName : aFields.split(",")) {
+            if (!aName.isBlank()) {
+                fields.add(of(aName.trim()));
+            }
+        }
+        return fields.isEmpty() ? ALL : Collections.unmodifiableSet(fields);
+    }
+
+    public static CategoryField of(final String aFieldName) {
+        return find(aFieldName).orElseThrow(() -> DomainException.with(
+                new Error("'fields' has an unknown field: '%s'".formatted(aFieldName))));
+    }
+
+    public static Optional<CategoryField> find(final String aFieldName) {
+        for (final var field : values()) {
+            if (field.fieldName.equals(aFieldName)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // The requested fields plus the given ones, which a caller needs whatever was asked for.
+    public static Set<CategoryField> with(final Set<CategoryField> aFields, final CategoryField... required) {
+        if (aFields.containsAll(ALL)) {
+            return ALL;
+        }
+        final var fields = EnumSet.copyOf(aFields);
+        Collections.addAll(fields, required);
+        return Collections.unmodifiableSet(fields);
+    }
+
+}
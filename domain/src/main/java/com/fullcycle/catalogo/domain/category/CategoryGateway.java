@@ -2,18 +2,33 @@ package com.fullcycle.catalogo.domain.category;
 
 import com.fullcycle.catalogo.domain.pagination.Pagination;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
 
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> aCategories);
+
     void deleteById(CategoryID anId);
 
     Optional<Category> findById(CategoryID anId);
 
+    Optional<Instant> findUpdatedAtById(CategoryID anId);
+
+    // Found categories in the order of anIds, each once; unknown ids are left out.
+    List<Category> findAllByIds(Collection<CategoryID> anIds);
+
     Category update(Category aCategory);
 
     Pagination<Category> findAll(CategorySearchQuery aQuery);
-    
+
+    Pagination<CategorySummary> findAllSummaries(CategorySearchQuery aQuery);
+
+    long forEachBatch(int aBatchSize, Consumer<List<CategorySummary>> aConsumer);
+
 }
@@ -1,6 +1,7 @@
 package com.fullcycle.catalogo.domain.category;
 
 import com.fullcycle.catalogo.domain.Identifier;
+import com.fullcycle.catalogo.domain.utils.TimeOrderedUuid;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -17,7 +18,7 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID unique() {
-        return CategoryID.from(UUID.randomUUID());
+        return CategoryID.from(TimeOrderedUuid.next());
     }
 
     public static CategoryID from(final String anId) {
@@ -1,10 +1,54 @@
 package com.fullcycle.catalogo.domain.category;
 
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.catalogo.domain.validation.Error;
+
+import java.util.Set;
+
 public record CategorySearchQuery<T>(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String after,
+        TotalMode total,
+        Set<CategoryField> fields
 ) {
+
+    // Sorts whose pages carry a nextCursor. The others are nullable or repeat too much to seek on, so they
+    // are paged by number only and 'after' is refused before any page is read.
+    public static final Set<String> KEYSET_SORTS = Set.of("id", "name", "createdAt", "updatedAt");
+
+    // Summaries only need to carry these fields; the others may come back empty.
+    public CategorySearchQuery {
+        if (after != null && !after.isBlank() && !KEYSET_SORTS.contains(sort)) {
+            throw DomainException.with(new Error("'after' is not supported for sort '%s'".formatted(sort)));
+        }
+        total = total == null ? TotalMode.EXACT : total;
+        fields = fields == null || fields.isEmpty() || fields.containsAll(CategoryField.ALL)
+                ? CategoryField.ALL
+                : Set.copyOf(fields);
+    }
+
+    public CategorySearchQuery(final int page, final int perPage, final String terms, final String sort,
+                               final String direction, final String after, final TotalMode total) {
+        this(page, perPage, terms, sort, direction, after, total, CategoryField.ALL);
+    }
+
+    public CategorySearchQuery(final int page, final int perPage, final String terms,
+                               final String sort, final String direction) {
+        this(page, perPage, terms, sort, direction, null, TotalMode.EXACT);
+    }
+
+    public CategorySearchQuery(final int page, final int perPage, final String terms,
+                               final String sort, final String direction, final String after) {
+        this(page, perPage, terms, sort, direction, after, TotalMode.EXACT);
+    }
+
+    public boolean isKeyset() {
+        return after != null && !after.isBlank();
+    }
+
 }
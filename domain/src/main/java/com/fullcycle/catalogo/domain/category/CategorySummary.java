@@ -0,0 +1,30 @@
+package com.fullcycle.catalogo.domain.category;
+
+import java.time.Instant;
+
+public record CategorySummary(
+        CategoryID id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+
+    public CategorySummary(final String id, final String name, final String description, final boolean active,
+                           final Instant createdAt, final Instant updatedAt, final Instant deletedAt) {
+        this(CategoryID.from(id), name, description, active, createdAt, updatedAt, deletedAt);
+    }
+
+    public static CategorySummary from(final Category aCategory) {
+        return new CategorySummary(aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt());
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.catalogo.domain.category;
+
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactiveCategoryGateway {
+
+    Mono<Category> create(Category aCategory);
+
+    Flux<Category> createAll(List<Category> aCategories);
+
+    Mono<Void> deleteById(CategoryID anId);
+
+    Mono<Category> findById(CategoryID anId);
+
+    Mono<Category> update(Category aCategory);
+
+    Mono<Pagination<CategorySummary>> findAllSummaries(CategorySearchQuery aQuery);
+
+}
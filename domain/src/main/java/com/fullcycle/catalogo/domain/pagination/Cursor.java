@@ -0,0 +1,51 @@
+package com.fullcycle.catalogo.domain.pagination;
+
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static java.util.Objects.requireNonNull;
+
+public record Cursor(
+        String sort,
+        String id,
+        String key
+) {
+
+    private static final String SEPARATOR = ":";
+
+    public Cursor {
+        requireNonNull(sort, "'sort' should not be null");
+        requireNonNull(id, "'id' should not be null");
+        requireNonNull(key, "'key' should not be null");
+    }
+
+    public static Cursor with(final String aSort, final String anId, final String aKey) {
+        return new Cursor(aSort, anId, aKey);
+    }
+
+    public static Cursor decode(final String aToken) {
+        try {
+            final var decoded = new String(Base64.getUrlDecoder().decode(aToken), StandardCharsets.UTF_8);
+            final var parts = decoded.split(SEPARATOR, 3);
+            if (parts.length != 3) {
+                throw invalid();
+            }
+            return new Cursor(parts[0], parts[1], parts[2]);
+        } catch (final IllegalArgumentException ex) {
+            throw invalid();
+        }
+    }
+
+    public String encode() {
+        final var raw = String.join(SEPARATOR, sort, id, key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'after' is not a valid cursor"));
+    }
+
+}
@@ -7,9 +7,19 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items) {
+        List<T> items,
+        String nextCursor,
+        boolean hasNext,
+        boolean approximateTotal) {
+
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null, (long) (currentPage + 1) * perPage < total, false);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.items.stream().map(mapper).toList();
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, nextCursor(), hasNext(), approximateTotal());
     }
 }
@@ -0,0 +1,23 @@
+package com.fullcycle.catalogo.domain.pagination;
+
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.validation.Error;
+
+public enum TotalMode {
+
+    EXACT,
+    NONE,
+    APPROXIMATE;
+
+    public static TotalMode of(final String aValue) {
+        if (aValue == null || aValue.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(aValue.trim().toUpperCase());
+        } catch (final IllegalArgumentException ex) {
+            throw DomainException.with(new Error("'total' must be one of exact, none or approximate"));
+        }
+    }
+
+}
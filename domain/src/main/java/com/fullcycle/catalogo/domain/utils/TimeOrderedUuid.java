@@ -0,0 +1,49 @@
+package com.fullcycle.catalogo.domain.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// UUIDv7: a millisecond timestamp, then a 12-bit counter that keeps ids from one millisecond in order.
+// A burst of more than 4096 ids in one millisecond carries the counter into the timestamp, borrowing
+// future milliseconds: ids then run ahead of the wall clock until it catches up with them.
+public final class TimeOrderedUuid {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+        final var state = nextState(System.currentTimeMillis());
+        final var timestamp = state >>> COUNTER_BITS;
+        final var counter = state & COUNTER_MASK;
+
+        final var msb = (timestamp << 16) | VERSION | counter;
+        final var lsb = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(msb, lsb);
+    }
+
+    // The timestamp of the latest id handed out, which is ahead of the clock after a burst.
+    static long lastTimestamp() {
+        return LAST.get() >>> COUNTER_BITS;
+    }
+
+    private static long nextState(final long now) {
+        final var candidate = now << COUNTER_BITS;
+        while (true) {
+            final var last = LAST.get();
+            final var next = candidate > last ? candidate : last + 1;
+            if (LAST.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.fullcycle.catalogo.domain.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeOrderedUuidTest {
+
+    @Test
+    void givenAGeneratedUuid_whenInspected_thenShouldBeVersion7WithRfcVariant() {
+        final var actualUuid = TimeOrderedUuid.next();
+
+        assertEquals(7, actualUuid.version());
+        assertEquals(2, actualUuid.variant());
+        assertEquals(36, actualUuid.toString().length());
+    }
+
+    @Test
+    void givenAGeneratedUuid_whenInspected_thenShouldCarryCurrentTimestamp() {
+        // A burst in an earlier test may have left the generator ahead of the clock; it then continues from there.
+        final var before = System.currentTimeMillis();
+        final var borrowedUpTo = TimeOrderedUuid.lastTimestamp();
+        final var actualUuid = TimeOrderedUuid.next();
+        final var after = System.currentTimeMillis();
+
+        final var actualTimestamp = actualUuid.getMostSignificantBits() >>> 16;
+
+        assertTrue(actualTimestamp >= before);
+        assertTrue(actualTimestamp <= Math.max(after, borrowedUpTo + 1));
+    }
+
+    @Test
+    void givenABurstOverflowingTheCounter_whenGenerating_thenShouldBorrowFutureMillisecondsInOrder() {
+        final var before = System.currentTimeMillis();
+        var previous = TimeOrderedUuid.next();
+        for (int i = 0; i < 50_000; i++) {
+            final var actual = TimeOrderedUuid.next();
+            assertTrue(actual.toString().compareTo(previous.toString()) > 0);
+            previous = actual;
+        }
+
+        final var actualTimestamp = previous.getMostSignificantBits() >>> 16;
+        assertTrue(actualTimestamp >= before);
+        assertEquals(TimeOrderedUuid.lastTimestamp(), actualTimestamp);
+    }
+
+    @Test
+    void givenSequentialCalls_whenGenerating_thenTextFormShouldBeStrictlyIncreasing() {
+        var previous = TimeOrderedUuid.next().toString();
+        for (int i = 0; i < 100_000; i++) {
+            final var actual = TimeOrderedUuid.next().toString();
+            assertTrue(actual.compareTo(previous) > 0);
+            previous = actual;
+        }
+    }
+
+    @Test
+    void givenConcurrentCalls_whenGenerating_thenShouldNotRepeat() throws Exception {
+        final var expectedThreads = 8;
+        final var expectedPerThread = 20_000;
+        final var executor = Executors.newFixedThreadPool(expectedThreads);
+        try {
+            final var tasks = new ArrayList<Callable<List<UUID>>>();
+            for (int i = 0; i < expectedThreads; i++) {
+                tasks.add(() -> {
+                    final var ids = new ArrayList<UUID>(expectedPerThread);
+                    for (int j = 0; j < expectedPerThread; j++) {
+                        ids.add(TimeOrderedUuid.next());
+                    }
+                    return ids;
+                });
+            }
+
+            final var actualIds = new HashSet<UUID>();
+            for (final var future : executor.invokeAll(tasks)) {
+                actualIds.addAll(future.get());
+            }
+
+            assertEquals(expectedThreads * expectedPerThread, actualIds.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
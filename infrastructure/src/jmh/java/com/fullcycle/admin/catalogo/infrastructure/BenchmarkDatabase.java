@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.infrastructure;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Profiles;
+
+import java.util.Arrays;
+
+// The benchmarks empty the category table before and after each trial, so they only run against the schema of
+// the benchmark profile: a context started with the development or production profile is refused before anything
+// is deleted.
+public final class BenchmarkDatabase {
+
+    public static final String PROFILE = "benchmark";
+
+    private BenchmarkDatabase() {
+    }
+
+    public static void clear(final ConfigurableApplicationContext aContext) {
+        final var environment = aContext.getEnvironment();
+        if (!environment.acceptsProfiles(Profiles.of(PROFILE))
+                || environment.acceptsProfiles(Profiles.of("development", "production"))) {
+            throw new IllegalStateException("Benchmarks delete every category: run them with the '%s' profile, not %s"
+                    .formatted(PROFILE, Arrays.toString(environment.getActiveProfiles())));
+        }
+        aContext.getBean(CategoryRepository.class).deleteAllInBatch();
+    }
+
+}
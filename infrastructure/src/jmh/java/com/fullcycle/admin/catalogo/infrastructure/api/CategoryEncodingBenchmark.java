@@ -0,0 +1,88 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Encoding and decoding one page of categories in each representation GET /categories can answer with.
+// encode also reports encodedBytes, the payload bytes written per second: divided by its own score it gives
+// the size of one page. The gc profiler (the default in build.gradle) adds the bytes allocated per page.
+// The mappers are built as MessageConverterConfig builds them.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CategoryEncodingBenchmark {
+
+    private static final TypeReference<Pagination<CategoryListResponse>> PAGE = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "protobuf"})
+    public String format;
+
+    @Param({"1", "50"})
+    public int perPage;
+
+    private ObjectMapper mapper;
+    private Pagination<CategoryListResponse> page;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final var builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.mapper = switch (this.format) {
+            case "json" -> builder.build();
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            default -> null;
+        };
+
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        this.page = new Pagination<>(0, this.perPage, 1_000, IntStream.range(0, this.perPage)
+                .mapToObj(i -> new CategoryListResponse(CategoryID.unique().getValue(), "Categoria " + i,
+                        "Descrição da categoria " + i, i % 2 == 0, now, now, null))
+                .toList());
+        this.encoded = encodePage();
+    }
+
+    @Benchmark
+    public byte[] encode(final Payload payload) throws IOException {
+        final var bytes = encodePage();
+        payload.encodedBytes += bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Pagination<CategoryListResponse> decode() throws IOException {
+        return this.mapper != null ? this.mapper.readValue(this.encoded, PAGE) : CategoryProtobuf.decodePage(this.encoded);
+    }
+
+    private byte[] encodePage() throws IOException {
+        return this.mapper != null ? this.mapper.writeValueAsBytes(this.page) : CategoryProtobuf.encode(this.page);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Payload {
+
+        public long encodedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.encodedBytes = 0;
+        }
+
+    }
+
+}
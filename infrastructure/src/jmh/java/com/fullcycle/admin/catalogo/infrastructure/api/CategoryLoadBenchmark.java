@@ -0,0 +1,113 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.BenchmarkDatabase;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Load test of GET /categories/{id} over HTTP with every database gateway call delayed by latencyMillis.
+// platform is capped by the 10 Undertow workers, virtual by the gateway permits (the pool size). Only platform
+// runs by default, as virtual needs a Java 21 runtime. Example, on Java 21:
+// ./gradlew :infrastructure:jmh -Pjmh.includes=CategoryLoadBenchmark -Pjmh.modes=platform,virtual
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(200)
+public class CategoryLoadBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @Param({"platform"})
+    public String mode;
+
+    @Param({"20"})
+    public long latencyMillis;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUri;
+    private List<String> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(WebServerConfig.class, InjectedLatency.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=0",
+                        "server.undertow.threads.worker=10",
+                        "category.execution.mode=" + this.mode,
+                        "category.benchmark.latency-millis=" + this.latencyMillis)
+                .run();
+        BenchmarkDatabase.clear(this.context);
+        this.ids = this.context.getBean(CategoryGateway.class).createAll(IntStream.range(0, ROWS)
+                        .mapToObj(i -> Category.newCategory("Categoria " + i, "Descrição " + i, true))
+                        .toList())
+                .stream()
+                .map(it -> it.getId().getValue())
+                .toList();
+        this.baseUri = "http://localhost:%d/categories/".formatted(
+                ((WebServerApplicationContext) this.context).getWebServer().getPort());
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDatabase.clear(this.context);
+        this.context.close();
+    }
+
+    @Benchmark
+    public int getById() throws IOException, InterruptedException {
+        final var anId = this.ids.get(ThreadLocalRandom.current().nextInt(ROWS));
+        return this.client.send(HttpRequest.newBuilder(URI.create(this.baseUri + anId)).GET().build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    // Wraps the database gateway bean, below the limiter, so the delay holds a permit like a slow query would.
+    public static class InjectedLatency {
+
+        @Bean
+        public static BeanPostProcessor latencyInjector(
+                @Value("${category.benchmark.latency-millis}") final long latencyMillis) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                    if (!(bean instanceof CategoryGateway gateway)) {
+                        return bean;
+                    }
+                    return Proxy.newProxyInstance(CategoryGateway.class.getClassLoader(),
+                            new Class<?>[]{CategoryGateway.class},
+                            (proxy, method, args) -> {
+                                Thread.sleep(latencyMillis);
+                                try {
+                                    return method.invoke(gateway, args);
+                                } catch (final InvocationTargetException ex) {
+                                    throw ex.getCause();
+                                }
+                            });
+                }
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryVersionUseCase;
+import com.fullcycle.admin.catalogo.infrastructure.BenchmarkDatabase;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// The work GET /categories/{id} does per request, minus the socket: version lookup, ETag and body bytes.
+// The gateway cache is on so both variants read from memory and only the encoding differs; run with the gc
+// profiler (the default in build.gradle) to get gc.alloc.rate.norm, the bytes allocated per request.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CategoryResponseBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    @Param({"identity", "gzip"})
+    public String encoding;
+
+    private ConfigurableApplicationContext context;
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private GetCategoryVersionUseCase getCategoryVersionUseCase;
+    private CategoryResponseCache responseCache;
+    private List<String> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(WebServerConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties("category.cache.enabled=true")
+                .run();
+        this.getCategoryByIdUseCase = this.context.getBean(GetCategoryByIdUseCase.class);
+        this.getCategoryVersionUseCase = this.context.getBean(GetCategoryVersionUseCase.class);
+        this.responseCache = new CategoryResponseCache(this.context.getBean(ObjectMapper.class), this.cached,
+                ROWS, Duration.ofHours(1), 0);
+        BenchmarkDatabase.clear(this.context);
+        this.ids = this.context.getBean(CategoryGateway.class).createAll(IntStream.range(0, ROWS)
+                        .mapToObj(i -> Category.newCategory("Categoria " + i, "Descrição da categoria " + i, true))
+                        .toList())
+                .stream()
+                .map(it -> it.getId().getValue())
+                .toList();
+        this.ids.forEach(this::getById);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDatabase.clear(this.context);
+        this.context.close();
+    }
+
+    @Benchmark
+    public byte[] getById() {
+        return getById(this.ids.get(ThreadLocalRandom.current().nextInt(ROWS)));
+    }
+
+    private byte[] getById(final String anId) {
+        final var version = this.getCategoryVersionUseCase.execute(anId);
+        final var encoded = this.responseCache.get(anId, version, () -> this.getCategoryByIdUseCase.execute(anId));
+        return "gzip".equals(this.encoding) ? encoded.gzip() : encoded.json();
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.BenchmarkDatabase;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CategoryGatewayBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @Param({"jpa", "jdbc"})
+    public String gateway;
+
+    private ConfigurableApplicationContext context;
+    private CategoryGateway categoryGateway;
+    private List<CategoryID> ids;
+    private CategorySearchQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(WebServerConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties("category.gateway=" + this.gateway)
+                .run();
+        this.categoryGateway = this.context.getBean(CategoryGateway.class);
+        BenchmarkDatabase.clear(this.context);
+        this.ids = this.categoryGateway.createAll(IntStream.range(0, ROWS)
+                        .mapToObj(i -> Category.newCategory("Categoria " + i, "Descrição " + i, true))
+                        .toList())
+                .stream()
+                .map(Category::getId)
+                .toList();
+        this.query = new CategorySearchQuery(0, 50, "", "name", "asc");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDatabase.clear(this.context);
+        this.context.close();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<Category> findById() {
+        return this.categoryGateway.findById(this.ids.get(ThreadLocalRandom.current().nextInt(ROWS)));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Pagination<CategorySummary> findAllSummaries() {
+        return this.categoryGateway.findAllSummaries(this.query);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Pagination<Category> findAll() {
+        return this.categoryGateway.findAll(this.query);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.BenchmarkDatabase;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CategoryInsertBenchmark {
+
+    @Param({"random", "timeOrdered"})
+    public String generator;
+
+    @Param({"1", "100"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private CategoryGateway gateway;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(WebServerConfig.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        this.gateway = this.context.getBean(CategoryGateway.class);
+        BenchmarkDatabase.clear(this.context);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDatabase.clear(this.context);
+        this.context.close();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Category> insert() {
+        final var categories = IntStream.range(0, this.batchSize)
+                .mapToObj(i -> newCategory())
+                .toList();
+        return this.batchSize == 1
+                ? List.of(this.gateway.create(categories.get(0)))
+                : this.gateway.createAll(categories);
+    }
+
+    private Category newCategory() {
+        final var anId = "random".equals(this.generator)
+                ? CategoryID.from(UUID.randomUUID())
+                : CategoryID.unique();
+        final var now = Instant.now();
+        return Category.with(anId, "Filmes", "A categoria mais assistida", true, now, now, null);
+    }
+
+}
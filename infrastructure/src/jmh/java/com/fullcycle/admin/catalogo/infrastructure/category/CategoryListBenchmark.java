@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.infrastructure.BenchmarkDatabase;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CategoryListBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @Param({"10", "50"})
+    public int perPage;
+
+    private ConfigurableApplicationContext context;
+    private CategoryGateway gateway;
+    private CategorySearchQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(WebServerConfig.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        this.gateway = this.context.getBean(CategoryGateway.class);
+        BenchmarkDatabase.clear(this.context);
+        this.gateway.createAll(IntStream.range(0, ROWS)
+                .mapToObj(i -> Category.newCategory("Categoria " + i, "Descrição " + i, true))
+                .toList());
+        this.query = new CategorySearchQuery(0, this.perPage, "", "name", "asc");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDatabase.clear(this.context);
+        this.context.close();
+    }
+
+    @Benchmark
+    public Pagination<CategoryListOutput> entities() {
+        return this.gateway.findAll(this.query).map(CategoryListOutput::from);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListOutput> projection() {
+        return this.gateway.findAllSummaries(this.query).map(CategoryListOutput::from);
+    }
+
+}
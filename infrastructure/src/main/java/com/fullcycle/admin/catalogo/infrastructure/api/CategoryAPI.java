@@ -1,21 +1,39 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryBatchItemResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.catalogo.domain.pagination.Pagination;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
 
 @RequestMapping("categories")
 @Tag(name = "Categories")
 public interface CategoryAPI {
 
+    String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    String TEXT_CSV_VALUE = "text/csv";
+    String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+
     @PostMapping(
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
@@ -27,18 +45,95 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory();
 
-    @GetMapping
-    @Operation(summary = "List all categories paginated")
+    @PostMapping(
+            value = "/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create categories in batch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All categories created successfully"),
+            @ApiResponse(responseCode = "207", description = "Some categories were not created, see each item errors"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<List<CreateCategoryBatchItemResponse>> createCategories(
+            @RequestBody final List<CreateCategoryRequest> input);
+
+    @PostMapping(
+            value = "/import",
+            consumes = {CategoryAPI.APPLICATION_NDJSON_VALUE, CategoryAPI.TEXT_CSV_VALUE},
+            produces = CategoryAPI.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Import categories from a newline-delimited JSON or CSV body, streaming back the rejected rows")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import started, one line per rejected row followed by a summary"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> importCategories(
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE) final String contentType,
+            final InputStream body);
+
+    @GetMapping(
+            value = "/export",
+            produces = CategoryAPI.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export every category as newline-delimited JSON, streamed in id order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export started, one category per line"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories();
+
+    @GetMapping(
+            value = "/{id}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                    CategoryAPI.APPLICATION_PROTOBUF_VALUE})
+    @Operation(summary = "Get a category by its identifier, as JSON unless Accept asks for CBOR or Protobuf")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Category retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = CategoryResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Category not modified since the given ETag"),
+            @ApiResponse(responseCode = "422", description = "Category was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<byte[]> getById(
+            @PathVariable(name = "id") final String id,
+            @RequestParam(name = SparseFieldset.PARAMETER, required = false) final String fields,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) final String accept,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding);
+
+    @GetMapping(
+            params = "ids",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the categories of a comma-separated list of identifiers, in the same order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories found, unknown identifiers are left out"),
+            @ApiResponse(responseCode = "422", description = "Too many identifiers were received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<List<CategoryResponse>> getByIds(@RequestParam(name = "ids") final List<String> ids);
+
+    @GetMapping(
+            params = "!ids",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                    CategoryAPI.APPLICATION_PROTOBUF_VALUE})
+    @SparseFieldset
+    @Operation(summary = "List all categories paginated, as JSON unless Accept asks for CBOR or Protobuf")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the given ETag"),
             @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    Pagination<?> listCategories(
-            @RequestParam(name = "sort", required = false, defaultValue = "") final String search,
+    ResponseEntity<Pagination<CategoryListResponse>> listCategories(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction);
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") final String total,
+            @RequestParam(name = SparseFieldset.PARAMETER, required = false) final String fields,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) final String accept);
 
 }
@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+
+public final class CategoryETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    private CategoryETags() {
+    }
+
+    public static String of(final Instant anUpdatedAt) {
+        return quote(Long.toHexString(ChronoUnit.MICROS.between(Instant.EPOCH, anUpdatedAt)));
+    }
+
+    // A trimmed body is another representation of the same version, so it gets its own ETag.
+    public static String of(final Instant anUpdatedAt, final Set<CategoryField> fields) {
+        if (fields.containsAll(CategoryField.ALL)) {
+            return of(anUpdatedAt);
+        }
+        final var mask = fields.stream().mapToInt(field -> 1 << field.ordinal()).sum();
+        return quote(Long.toHexString(ChronoUnit.MICROS.between(Instant.EPOCH, anUpdatedAt)) + "-"
+                + Integer.toHexString(mask));
+    }
+
+    public static String of(final Pagination<CategoryListOutput> aPage) {
+        return of(aPage, CategoryField.ALL);
+    }
+
+    // Every field of a listed category changes together with its updatedAt, so hashing ids and updatedAt
+    // (plus the page metadata and the requested fields) identifies the body without serializing it.
+    public static String of(final Pagination<CategoryListOutput> aPage, final Set<CategoryField> fields) {
+        final var digest = sha256();
+        if (!fields.containsAll(CategoryField.ALL)) {
+            update(digest, fields.stream().sorted().map(CategoryField::fieldName).toList() + ":");
+        }
+        update(digest, aPage.currentPage() + ":" + aPage.perPage() + ":" + aPage.total() + ":"
+                + aPage.hasNext() + ":" + aPage.approximateTotal() + ":" + aPage.nextCursor());
+        aPage.items().forEach(it -> update(digest, "|" + it.id().getValue() + ":"
+                + ChronoUnit.MICROS.between(Instant.EPOCH, it.updatedAt())));
+        return quote(HexFormat.of().formatHex(Arrays.copyOf(digest.digest(), 16)));
+    }
+
+    // The gzip body has other bytes than the identity one, so it gets its own strong ETag.
+    public static String gzip(final String anETag) {
+        return anETag.substring(0, anETag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    public static boolean matches(final String ifNoneMatch, final String anETag) {
+        return matched(ifNoneMatch, anETag).isPresent();
+    }
+
+    // If-None-Match uses the weak comparison, so W/ prefixes are ignored on both sides. Either encoding of the
+    // version matches, and the one the client holds is returned so a 304 carries the ETag it already has.
+    public static Optional<String> matched(final String ifNoneMatch, final String anETag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return Optional.empty();
+        }
+        final var expected = opaque(anETag);
+        final var gzipped = gzip(expected);
+        for (final var candidate : ifNoneMatch.split(",")) {
+            final var aValue = opaque(candidate.trim());
+            if ("*".equals(aValue) || aValue.equals(expected)) {
+                return Optional.of(anETag);
+            }
+            if (aValue.equals(gzipped)) {
+                return Optional.of(gzip(anETag));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String opaque(final String anETag) {
+        return anETag.startsWith(WEAK_PREFIX) ? anETag.substring(WEAK_PREFIX.length()) : anETag;
+    }
+
+    private static String quote(final String aValue) {
+        return "\"" + aValue + "\"";
+    }
+
+    private static void update(final MessageDigest digest, final String aValue) {
+        digest.update(aValue.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Jackson side of the fields= parameter. Category responses get the filter through a mix-in on the application
+// ObjectMapper, which serializes every property unless a request asked for fewer.
+public final class CategoryFields {
+
+    public static final String FILTER_ID = "categoryFields";
+
+    private static final FilterProvider ALL = new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+
+    private CategoryFields() {
+    }
+
+    public static FilterProvider all() {
+        return ALL;
+    }
+
+    public static FilterProvider only(final Set<CategoryField> fields) {
+        if (fields.containsAll(CategoryField.ALL)) {
+            return ALL;
+        }
+        return new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(
+                fields.stream().map(CategoryField::fieldName).collect(Collectors.toSet())));
+    }
+
+    @JsonFilter(FILTER_ID)
+    public interface Filtered {
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.category.v1.Category;
+import com.fullcycle.admin.catalogo.category.v1.CategoryPage;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Timestamp;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Set;
+
+// Maps the response records into the messages generated from category.proto, and back for the tests and
+// benchmarks that read what the API wrote.
+public final class CategoryProtobuf {
+
+    private CategoryProtobuf() {
+    }
+
+    public static byte[] encode(final CategoryResponse aCategory) {
+        return encode(aCategory, CategoryField.ALL);
+    }
+
+    // Leaves out the fields not in fields, as the JSON filter does.
+    public static byte[] encode(final CategoryResponse aCategory, final Set<CategoryField> fields) {
+        return messageOf(aCategory.id(), aCategory.name(), aCategory.description(), aCategory.active(),
+                aCategory.createdAt(), aCategory.updatedAt(), aCategory.deletedAt(), fields).toByteArray();
+    }
+
+    public static byte[] encode(final Pagination<CategoryListResponse> aPage) {
+        return encode(aPage, CategoryField.ALL);
+    }
+
+    // Items are written with what the list query read: columns left out of a sparse query are null and so absent.
+    // Active is a primitive the query reads as false when it was not asked for, so fields decides whether it is
+    // written.
+    public static byte[] encode(final Pagination<CategoryListResponse> aPage, final Set<CategoryField> fields) {
+        final var aMessage = CategoryPage.newBuilder()
+                .setCurrentPage(aPage.currentPage())
+                .setPerPage(aPage.perPage())
+                .setTotal(aPage.total())
+                .setHasNext(aPage.hasNext())
+                .setApproximateTotal(aPage.approximateTotal());
+        for (final var anItem : aPage.items()) {
+            aMessage.addItems(messageOf(anItem.id(), anItem.name(), anItem.description(), anItem.active(),
+                    anItem.createdAt(), anItem.updatedAt(), anItem.deletedAt(), fields));
+        }
+        if (aPage.nextCursor() != null) {
+            aMessage.setNextCursor(aPage.nextCursor());
+        }
+        return aMessage.build().toByteArray();
+    }
+
+    public static CategoryResponse decodeCategory(final byte[] bytes) {
+        try {
+            final var aMessage = Category.parseFrom(bytes);
+            return new CategoryResponse(aMessage.hasId() ? aMessage.getId() : null,
+                    aMessage.hasName() ? aMessage.getName() : null,
+                    aMessage.hasDescription() ? aMessage.getDescription() : null,
+                    aMessage.getActive(),
+                    aMessage.hasCreatedAt() ? instantOf(aMessage.getCreatedAt()) : null,
+                    aMessage.hasUpdatedAt() ? instantOf(aMessage.getUpdatedAt()) : null,
+                    aMessage.hasDeletedAt() ? instantOf(aMessage.getDeletedAt()) : null);
+        } catch (final InvalidProtocolBufferException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public static Pagination<CategoryListResponse> decodePage(final byte[] bytes) {
+        try {
+            final var aMessage = CategoryPage.parseFrom(bytes);
+            final var items = aMessage.getItemsList().stream()
+                    .map(anItem -> new CategoryListResponse(anItem.hasId() ? anItem.getId() : null,
+                            anItem.hasName() ? anItem.getName() : null,
+                            anItem.hasDescription() ? anItem.getDescription() : null,
+                            anItem.getActive(),
+                            anItem.hasCreatedAt() ? instantOf(anItem.getCreatedAt()) : null,
+                            anItem.hasUpdatedAt() ? instantOf(anItem.getUpdatedAt()) : null,
+                            anItem.hasDeletedAt() ? instantOf(anItem.getDeletedAt()) : null))
+                    .toList();
+            return new Pagination<>(aMessage.getCurrentPage(), aMessage.getPerPage(), aMessage.getTotal(), items,
+                    aMessage.hasNextCursor() ? aMessage.getNextCursor() : null, aMessage.getHasNext(),
+                    aMessage.getApproximateTotal());
+        } catch (final InvalidProtocolBufferException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Null values and the fields not in fields are left unset, so they are not written.
+    private static Category messageOf(final String anId, final String aName, final String aDescription,
+                                      final Boolean active, final Instant aCreatedAt, final Instant anUpdatedAt,
+                                      final Instant aDeletedAt, final Set<CategoryField> fields) {
+        final var aMessage = Category.newBuilder();
+        if (anId != null && fields.contains(CategoryField.ID)) {
+            aMessage.setId(anId);
+        }
+        if (aName != null && fields.contains(CategoryField.NAME)) {
+            aMessage.setName(aName);
+        }
+        if (aDescription != null && fields.contains(CategoryField.DESCRIPTION)) {
+            aMessage.setDescription(aDescription);
+        }
+        if (active != null && fields.contains(CategoryField.ACTIVE)) {
+            aMessage.setActive(active);
+        }
+        if (aCreatedAt != null && fields.contains(CategoryField.CREATED_AT)) {
+            aMessage.setCreatedAt(timestampOf(aCreatedAt));
+        }
+        if (anUpdatedAt != null && fields.contains(CategoryField.UPDATED_AT)) {
+            aMessage.setUpdatedAt(timestampOf(anUpdatedAt));
+        }
+        if (aDeletedAt != null && fields.contains(CategoryField.DELETED_AT)) {
+            aMessage.setDeletedAt(timestampOf(aDeletedAt));
+        }
+        return aMessage.build();
+    }
+
+    private static Timestamp timestampOf(final Instant anInstant) {
+        return Timestamp.newBuilder()
+                .setSeconds(anInstant.getEpochSecond())
+                .setNanos(anInstant.getNano())
+                .build();
+    }
+
+    private static Instant instantOf(final Timestamp aTimestamp) {
+        return Instant.ofEpochSecond(aTimestamp.getSeconds(), aTimestamp.getNanos());
+    }
+
+}
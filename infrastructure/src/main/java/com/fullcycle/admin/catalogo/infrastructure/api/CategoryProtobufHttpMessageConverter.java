@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+// Writes category responses as application/x-protobuf. Pages are only written when their items are list
+// responses, which needs the generic type of the handler's return value. A CategoryProtobufValue body is
+// written with the fields it carries. Nothing is read in this format.
+public class CategoryProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public CategoryProtobufHttpMessageConverter() {
+        super(CategoryRepresentation.PROTOBUF.mediaType());
+    }
+
+    @Override
+    protected boolean supports(final Class<?> clazz) {
+        return CategoryResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(final Type type, final Class<?> contextClass, final MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(final Type type, final Class<?> clazz, final MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (type != null && Pagination.class == ResolvableType.forType(type).resolve()) {
+            return CategoryListResponse.class == ResolvableType.forType(type).resolveGeneric(0);
+        }
+        return supports(clazz);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(final Object aValue, final Type type, final HttpOutputMessage outputMessage)
+            throws IOException {
+        final var body = aValue instanceof CategoryProtobufValue aBody ? aBody.value() : aValue;
+        final var fields = aValue instanceof CategoryProtobufValue aBody ? aBody.fields() : CategoryField.ALL;
+        final var bytes = body instanceof CategoryResponse aCategory
+                ? CategoryProtobuf.encode(aCategory, fields)
+                : CategoryProtobuf.encode((Pagination<CategoryListResponse>) body, fields);
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    @Override
+    public Object read(final Type type, final Class<?> contextClass, final HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Category bodies are not read as Protobuf", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(final Class<?> clazz, final HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Category bodies are not read as Protobuf", inputMessage);
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.catalogo.domain.category.CategoryField;
+
+import java.util.Set;
+
+// A body for CategoryProtobufHttpMessageConverter together with the fields= the request asked for, as
+// MappingJacksonValue carries the filters for Jackson.
+public record CategoryProtobufValue(Object value, Set<CategoryField> fields) {
+}
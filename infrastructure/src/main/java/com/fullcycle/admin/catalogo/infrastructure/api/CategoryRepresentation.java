@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+// The media types category reads are served in. JSON stays the default; CBOR and Protobuf are only written
+// when the Accept header prefers them.
+public enum CategoryRepresentation {
+
+    JSON(MediaType.APPLICATION_JSON, null),
+    CBOR(MediaType.APPLICATION_CBOR, "cbor"),
+    PROTOBUF(MediaType.parseMediaType(CategoryAPI.APPLICATION_PROTOBUF_VALUE), "pb");
+
+    private final MediaType mediaType;
+    private final String eTagSuffix;
+
+    CategoryRepresentation(final MediaType mediaType, final String eTagSuffix) {
+        this.mediaType = mediaType;
+        this.eTagSuffix = eTagSuffix;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    // Picks as Spring MVC does among the produces of the mapping: by quality, then specificity, then in
+    // declaration order, so */* and a missing header both get JSON.
+    public static CategoryRepresentation negotiate(final String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        final List<MediaType> acceptable = MediaType.parseMediaTypes(accept);
+        MediaType.sortBySpecificityAndQuality(acceptable);
+        for (final var anAccepted : acceptable) {
+            if (anAccepted.getQualityValue() == 0) {
+                continue;
+            }
+            for (final var representation : values()) {
+                if (anAccepted.isCompatibleWith(representation.mediaType)) {
+                    return representation;
+                }
+            }
+        }
+        return JSON;
+    }
+
+    // Each representation of a version has its own bytes and so its own strong ETag.
+    public String eTag(final String aJsonETag) {
+        if (this.eTagSuffix == null) {
+            return aJsonETag;
+        }
+        return aJsonETag.substring(0, aJsonETag.length() - 1) + "." + this.eTagSuffix + "\"";
+    }
+
+}
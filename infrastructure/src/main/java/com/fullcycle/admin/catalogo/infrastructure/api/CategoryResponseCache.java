@@ -0,0 +1,134 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import static java.util.Objects.requireNonNull;
+
+// Keeps get-by-id bodies already serialized, so a hit writes the stored bytes instead of running Jackson.
+// Entries are keyed by id and only reused while the category's updatedAt is the one they were encoded from,
+// so an update on any node makes them stale without an explicit eviction.
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CategoryResponseCache implements MeterBinder {
+
+    public static final String CACHE_NAME = "category-responses";
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Encoded> cache;
+    private final int gzipMinSize;
+
+    public CategoryResponseCache(final ObjectMapper objectMapper,
+                                 @Value("${category.response-cache.enabled:false}") final boolean enabled,
+                                 @Value("${category.response-cache.maximum-size:10000}") final long maximumSize,
+                                 @Value("${category.response-cache.expire-after-access:10m}") final Duration expireAfterAccess,
+                                 @Value("${category.response-cache.gzip-min-size:1024}") final int gzipMinSize) {
+        this.objectMapper = requireNonNull(objectMapper);
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build()
+                : null;
+        this.gzipMinSize = gzipMinSize;
+    }
+
+    // The loader runs on a miss or when the cached bytes are from another version than aVersion. Versions are
+    // compared through their ETags, which have the microsecond precision the database keeps.
+    public Encoded get(final String anId, final Instant aVersion, final Supplier<CategoryOutput> loader) {
+        if (this.cache == null) {
+            return encode(loader.get());
+        }
+        final var cached = this.cache.getIfPresent(anId);
+        if (cached != null && cached.eTag().equals(CategoryETags.of(aVersion))) {
+            return cached;
+        }
+        final var encoded = encode(loader.get());
+        this.cache.asMap().merge(anId, encoded,
+                (current, loaded) -> current.updatedAt().isAfter(loaded.updatedAt()) ? current : loaded);
+        return encoded;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        if (this.cache != null) {
+            CaffeineCacheMetrics.monitor(registry, this.cache, CACHE_NAME);
+        }
+    }
+
+    // Accept-Encoding is a list of codings with optional weights; gzip;q=0 explicitly refuses it, and an
+    // explicit gzip entry wins over *, wherever either appears.
+    public static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (final var coding : acceptEncoding.split(",")) {
+            final var parts = coding.split(";");
+            final var name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (GZIP.equals(name)) {
+                return !refused(parts);
+            }
+            if ("*".equals(name) && wildcard == null) {
+                wildcard = !refused(parts);
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static boolean refused(final String[] parts) {
+        var refused = false;
+        for (int index = 1; index < parts.length; index++) {
+            final var parameter = parts[index].trim().toLowerCase(Locale.ROOT);
+            refused |= parameter.matches("q=0(\\.0{0,3})?");
+        }
+        return refused;
+    }
+
+    private Encoded encode(final CategoryOutput anOutput) {
+        try {
+            final var json = this.objectMapper.writeValueAsBytes(CategoryResponse.from(anOutput));
+            return new Encoded(anOutput.updatedAt(), CategoryETags.of(anOutput.updatedAt()), json,
+                    json.length >= this.gzipMinSize ? gzip(json) : null);
+        } catch (final JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static byte[] gzip(final byte[] aValue) {
+        final var out = new ByteArrayOutputStream(aValue.length / 2);
+        try (final var gzip = new GZIPOutputStream(out)) {
+            gzip.write(aValue);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    // gzip is null for bodies below category.response-cache.gzip-min-size, where compressing does not pay off.
+    public record Encoded(Instant updatedAt, String eTag, byte[] json, byte[] gzip) {
+    }
+
+}
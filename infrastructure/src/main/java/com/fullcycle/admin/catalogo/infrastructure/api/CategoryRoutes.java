@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.api.handler.CategoryHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class CategoryRoutes {
+
+    @Bean
+    public RouterFunction<ServerResponse> categoryRouter(final CategoryHandler handler) {
+        return RouterFunctions.route()
+                .path("/categories", builder -> builder
+                        .POST("/batch", contentType(APPLICATION_JSON), handler::createCategories)
+                        .GET("/{id}", handler::getCategory)
+                        .PUT("/{id}", contentType(APPLICATION_JSON), handler::updateCategory)
+                        .DELETE("/{id}", handler::deleteCategory)
+                        .POST(contentType(APPLICATION_JSON), handler::createCategory)
+                        .GET(handler::listCategories))
+                .build();
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks the endpoints whose body is trimmed to the properties named by the fields= request parameter.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SparseFieldset {
+
+    String PARAMETER = "fields";
+
+}
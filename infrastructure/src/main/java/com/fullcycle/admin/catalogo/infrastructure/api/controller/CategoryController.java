@@ -1,21 +1,250 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controller;
 
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryVersionUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.infrastructure.api.CategoryAPI;
+import com.fullcycle.admin.catalogo.infrastructure.api.CategoryETags;
+import com.fullcycle.admin.catalogo.infrastructure.api.CategoryFields;
+import com.fullcycle.admin.catalogo.infrastructure.api.CategoryProtobuf;
+import com.fullcycle.admin.catalogo.infrastructure.api.CategoryRepresentation;
+import com.fullcycle.admin.catalogo.infrastructure.api.CategoryResponseCache;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryImportReader;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryImportErrorResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryImportSummaryResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryBatchItemResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
 import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.pagination.TotalMode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vavr.control.Either;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.requireNonNull;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CategoryController implements CategoryAPI {
 
+    private static final byte NEW_LINE = '\n';
+
+    private final CreateCategoriesUseCase createCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final ImportCategoriesUseCase importCategoriesUseCase;
+    private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+    private final GetCategoryVersionUseCase getCategoryVersionUseCase;
+    private final ListCategoriesUseCase listCategoriesUseCase;
+    private final CategoryResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+
+    public CategoryController(final CreateCategoriesUseCase createCategoriesUseCase,
+                              final ExportCategoriesUseCase exportCategoriesUseCase,
+                              final ImportCategoriesUseCase importCategoriesUseCase,
+                              final GetCategoryByIdUseCase getCategoryByIdUseCase,
+                              final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase,
+                              final GetCategoryVersionUseCase getCategoryVersionUseCase,
+                              final ListCategoriesUseCase listCategoriesUseCase,
+                              final CategoryResponseCache responseCache,
+                              final ObjectMapper objectMapper,
+                              final MappingJackson2CborHttpMessageConverter cborConverter) {
+        this.createCategoriesUseCase = requireNonNull(createCategoriesUseCase);
+        this.exportCategoriesUseCase = requireNonNull(exportCategoriesUseCase);
+        this.importCategoriesUseCase = requireNonNull(importCategoriesUseCase);
+        this.getCategoryByIdUseCase = requireNonNull(getCategoryByIdUseCase);
+        this.getCategoriesByIdsUseCase = requireNonNull(getCategoriesByIdsUseCase);
+        this.getCategoryVersionUseCase = requireNonNull(getCategoryVersionUseCase);
+        this.listCategoriesUseCase = requireNonNull(listCategoriesUseCase);
+        this.responseCache = requireNonNull(responseCache);
+        this.objectMapper = requireNonNull(objectMapper);
+        this.cborMapper = cborConverter.getObjectMapper();
+    }
+
     @Override
     public ResponseEntity<?> createCategory() {
         return null;
     }
 
     @Override
-    public Pagination<?> listCategories(String search, int page, int perPage, String sort, String direction) {
-        return null;
+    public ResponseEntity<List<CreateCategoryBatchItemResponse>> createCategories(final List<CreateCategoryRequest> input) {
+        final var commands = input.stream()
+                .map(it -> CreateCategoryCommand.with(it.name(), it.description(), it.isActive()))
+                .toList();
+
+        final var results = this.createCategoriesUseCase.execute(commands);
+
+        final var response = IntStream.range(0, results.size())
+                .mapToObj(index -> CreateCategoryBatchItemResponse.from(index, results.get(index)))
+                .toList();
+        final var status = results.stream().allMatch(Either::isRight) ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+
+        return ResponseEntity.status(status).body(response);
+    }
+
+    // The body is parsed while it is uploaded; each rejected row is flushed as soon as its chunk is written
+    // and the last line carries the totals.
+    @Override
+    public ResponseEntity<StreamingResponseBody> importCategories(final String contentType, final InputStream body) {
+        final var mediaType = MediaType.parseMediaType(contentType);
+        final var charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+
+        final StreamingResponseBody response = out -> {
+            final var aReader = new BufferedReader(new InputStreamReader(body, charset));
+            final var rows = MediaType.parseMediaType(TEXT_CSV_VALUE).includes(mediaType)
+                    ? CategoryImportReader.csv(aReader)
+                    : CategoryImportReader.ndjson(aReader, this.objectMapper);
+
+            final var output = this.importCategoriesUseCase.execute(ImportCategoriesCommand.with(rows,
+                    failure -> writeLine(out, CategoryImportErrorResponse.from(failure))));
+            writeLine(out, CategoryImportSummaryResponse.from(output));
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(response);
+    }
+
+    // Runs on an async request thread; each batch is serialized and flushed before the next one is read.
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories() {
+        final StreamingResponseBody body = out -> this.exportCategoriesUseCase.execute(batch -> {
+            try {
+                for (final var output : batch) {
+                    out.write(this.objectMapper.writeValueAsBytes(CategoryListResponse.from(output)));
+                    out.write(NEW_LINE);
+                }
+                out.flush();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    // Both paths start from updatedAt alone: a conditional request may stop there, otherwise the body comes
+    // from the response cache and the full row is only loaded when the cached bytes are older. Trimmed bodies
+    // and the binary representations are few bytes to encode and are not cached.
+    @Override
+    public ResponseEntity<byte[]> getById(final String id, final String fields, final String ifNoneMatch,
+                                          final String accept, final String acceptEncoding) {
+        final var representation = CategoryRepresentation.negotiate(accept);
+        final var aFields = CategoryField.parse(fields);
+        final var version = this.getCategoryVersionUseCase.execute(id);
+        final var currentETag = representation.eTag(CategoryETags.of(version, aFields));
+        final var matched = CategoryETags.matched(ifNoneMatch, currentETag);
+        if (matched.isPresent()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(matched.get()).build();
+        }
+        if (representation != CategoryRepresentation.JSON || !aFields.containsAll(CategoryField.ALL)) {
+            final var anOutput = this.getCategoryByIdUseCase.execute(id);
+            return ResponseEntity.ok()
+                    .eTag(representation.eTag(CategoryETags.of(anOutput.updatedAt(), aFields)))
+                    .contentType(representation.mediaType())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(encode(representation, CategoryResponse.from(anOutput), aFields));
+        }
+
+        final var encoded = this.responseCache.get(id, version, () -> this.getCategoryByIdUseCase.execute(id));
+        final var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (encoded.gzip() != null && CategoryResponseCache.acceptsGzip(acceptEncoding)) {
+            return response.eTag(CategoryETags.gzip(encoded.eTag()))
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(encoded.gzip());
+        }
+        return response.eTag(encoded.eTag()).body(encoded.json());
+    }
+
+    @Override
+    public ResponseEntity<List<CategoryResponse>> getByIds(final List<String> ids) {
+        final var anIds = ids.stream().map(String::trim).filter(id -> !id.isEmpty()).toList();
+        return ResponseEntity.ok(this.getCategoriesByIdsUseCase.execute(anIds).stream()
+                .map(CategoryResponse::from)
+                .toList());
+    }
+
+    @Override
+    public ResponseEntity<Pagination<CategoryListResponse>> listCategories(final String search, final int page,
+                                                                           final int perPage, final String sort,
+                                                                           final String direction, final String after,
+                                                                           final String total, final String fields,
+                                                                           final String ifNoneMatch,
+                                                                           final String accept) {
+        final var representation = CategoryRepresentation.negotiate(accept);
+        final var aFields = CategoryField.parse(fields);
+        final var query = new CategorySearchQuery(page, perPage, search, sort, direction, after, TotalMode.of(total),
+                CategoryField.with(aFields, CategoryField.UPDATED_AT));
+
+        final var output = this.listCategoriesUseCase.execute(query);
+
+        final var anETag = representation.eTag(CategoryETags.of(output, aFields));
+        if (CategoryETags.matches(ifNoneMatch, anETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(anETag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(anETag)
+                .contentType(representation.mediaType())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(output.map(CategoryListResponse::from));
+    }
+
+    private byte[] encode(final CategoryRepresentation representation, final CategoryResponse aResponse,
+                          final Set<CategoryField> fields) {
+        return switch (representation) {
+            case JSON -> writeFields(this.objectMapper, aResponse, fields);
+            case CBOR -> writeFields(this.cborMapper, aResponse, fields);
+            case PROTOBUF -> CategoryProtobuf.encode(aResponse, fields);
+        };
+    }
+
+    private static byte[] writeFields(final ObjectMapper aMapper, final Object aValue, final Set<CategoryField> fields) {
+        try {
+            return aMapper.writer(CategoryFields.only(fields)).writeValueAsBytes(aValue);
+        } catch (final JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeLine(final OutputStream out, final Object aValue) {
+        try {
+            out.write(this.objectMapper.writeValueAsBytes(aValue));
+            out.write(NEW_LINE);
+            out.flush();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
     }
 
 }
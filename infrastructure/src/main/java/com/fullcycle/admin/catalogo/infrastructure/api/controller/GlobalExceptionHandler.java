@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controller;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.models.ErrorResponse;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ErrorResponse> handleDomainException(final DomainException ex) {
+        return ResponseEntity.unprocessableEntity().body(ErrorResponse.from(ex.getErrors()));
+    }
+
+}
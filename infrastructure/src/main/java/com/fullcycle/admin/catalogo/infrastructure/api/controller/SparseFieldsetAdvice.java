@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controller;
+
+import com.fullcycle.admin.catalogo.infrastructure.api.CategoryFields;
+import com.fullcycle.admin.catalogo.infrastructure.api.CategoryProtobufHttpMessageConverter;
+import com.fullcycle.admin.catalogo.infrastructure.api.CategoryProtobufValue;
+import com.fullcycle.admin.catalogo.infrastructure.api.SparseFieldset;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Applies the fields= filter while the body is written, so the handlers keep returning their usual types.
+// Jackson gets it as a filter on a MappingJacksonValue, the Protobuf converter as a CategoryProtobufValue.
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SparseFieldsetAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(final MethodParameter returnType,
+                            final Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(SparseFieldset.class)
+                && (AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+                || CategoryProtobufHttpMessageConverter.class.isAssignableFrom(converterType));
+    }
+
+    @Override
+    public Object beforeBodyWrite(final Object body, final MethodParameter returnType,
+                                  final MediaType contentType,
+                                  final Class<? extends HttpMessageConverter<?>> converterType,
+                                  final ServerHttpRequest request, final ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        final var fields = CategoryField.parse(
+                servletRequest.getServletRequest().getParameter(SparseFieldset.PARAMETER));
+        if (CategoryProtobufHttpMessageConverter.class.isAssignableFrom(converterType)) {
+            return new CategoryProtobufValue(body, fields);
+        }
+        final var container = body instanceof MappingJacksonValue aValue ? aValue : new MappingJacksonValue(body);
+        container.setFilters(CategoryFields.only(fields));
+        return container;
+    }
+
+}
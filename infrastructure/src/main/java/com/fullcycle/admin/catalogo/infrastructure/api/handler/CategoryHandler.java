@@ -0,0 +1,164 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.handler;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.ReactiveCreateCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.ReactiveCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.ReactiveDeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.ReactiveGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ReactiveListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.ReactiveUpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.fullcycle.admin.catalogo.infrastructure.api.CategoryETags;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryIdResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryBatchItemResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.ErrorResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.catalogo.domain.validation.Error;
+import io.vavr.control.Either;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.requireNonNull;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class CategoryHandler {
+
+    private static final ParameterizedTypeReference<List<CreateCategoryRequest>> BATCH_REQUEST =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final ReactiveCreateCategoryUseCase createCategoryUseCase;
+    private final ReactiveCreateCategoriesUseCase createCategoriesUseCase;
+    private final ReactiveGetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final ReactiveListCategoriesUseCase listCategoriesUseCase;
+    private final ReactiveUpdateCategoryUseCase updateCategoryUseCase;
+    private final ReactiveDeleteCategoryUseCase deleteCategoryUseCase;
+
+    public CategoryHandler(final ReactiveCreateCategoryUseCase createCategoryUseCase,
+                           final ReactiveCreateCategoriesUseCase createCategoriesUseCase,
+                           final ReactiveGetCategoryByIdUseCase getCategoryByIdUseCase,
+                           final ReactiveListCategoriesUseCase listCategoriesUseCase,
+                           final ReactiveUpdateCategoryUseCase updateCategoryUseCase,
+                           final ReactiveDeleteCategoryUseCase deleteCategoryUseCase) {
+        this.createCategoryUseCase = requireNonNull(createCategoryUseCase);
+        this.createCategoriesUseCase = requireNonNull(createCategoriesUseCase);
+        this.getCategoryByIdUseCase = requireNonNull(getCategoryByIdUseCase);
+        this.listCategoriesUseCase = requireNonNull(listCategoriesUseCase);
+        this.updateCategoryUseCase = requireNonNull(updateCategoryUseCase);
+        this.deleteCategoryUseCase = requireNonNull(deleteCategoryUseCase);
+    }
+
+    public Mono<ServerResponse> createCategory(final ServerRequest request) {
+        return request.bodyToMono(CreateCategoryRequest.class)
+                .map(it -> CreateCategoryCommand.with(it.name(), it.description(), it.isActive()))
+                .flatMap(this.createCategoryUseCase::execute)
+                .flatMap(result -> result.fold(
+                        notification -> unprocessable(notification.getErrors()),
+                        output -> ServerResponse.created(URI.create("/categories/" + output.id().getValue()))
+                                .bodyValue(new CategoryIdResponse(output.id().getValue()))));
+    }
+
+    public Mono<ServerResponse> createCategories(final ServerRequest request) {
+        return request.bodyToMono(BATCH_REQUEST)
+                .map(input -> input.stream()
+                        .map(it -> CreateCategoryCommand.with(it.name(), it.description(), it.isActive()))
+                        .toList())
+                .flatMap(this.createCategoriesUseCase::execute)
+                .flatMap(results -> {
+                    final var response = IntStream.range(0, results.size())
+                            .mapToObj(index -> CreateCategoryBatchItemResponse.from(index, results.get(index)))
+                            .toList();
+                    final var status = results.stream().allMatch(Either::isRight)
+                            ? HttpStatus.CREATED
+                            : HttpStatus.MULTI_STATUS;
+
+                    return ServerResponse.status(status).bodyValue(response);
+                });
+    }
+
+    public Mono<ServerResponse> listCategories(final ServerRequest request) {
+        return Mono.fromCallable(() -> queryOf(request))
+                .flatMap(this.listCategoriesUseCase::execute)
+                .flatMap(aPage -> {
+                    final var anETag = CategoryETags.of(aPage);
+                    return notModified(request, anETag)
+                            ? ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(anETag).build()
+                            : ServerResponse.ok().eTag(anETag).bodyValue(aPage.map(CategoryListResponse::from));
+                })
+                .onErrorResume(DomainException.class, ex -> unprocessable(ex.getErrors()));
+    }
+
+    public Mono<ServerResponse> getCategory(final ServerRequest request) {
+        return this.getCategoryByIdUseCase.execute(request.pathVariable("id"))
+                .flatMap(output -> {
+                    final var anETag = CategoryETags.of(output.updatedAt());
+                    return notModified(request, anETag)
+                            ? ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(anETag).build()
+                            : ServerResponse.ok().eTag(anETag).bodyValue(CategoryResponse.from(output));
+                })
+                .onErrorResume(DomainException.class, ex -> unprocessable(ex.getErrors()));
+    }
+
+    public Mono<ServerResponse> updateCategory(final ServerRequest request) {
+        final var anId = request.pathVariable("id");
+        return request.bodyToMono(UpdateCategoryRequest.class)
+                .map(it -> UpdateCategoryCommand.with(anId, it.name(), it.description(), it.isActive()))
+                .flatMap(this.updateCategoryUseCase::execute)
+                .flatMap(result -> result.fold(
+                        notification -> unprocessable(notification.getErrors()),
+                        output -> ServerResponse.ok().bodyValue(new CategoryIdResponse(output.id().getValue()))))
+                .onErrorResume(DomainException.class, ex -> unprocessable(ex.getErrors()));
+    }
+
+    public Mono<ServerResponse> deleteCategory(final ServerRequest request) {
+        return this.deleteCategoryUseCase.execute(request.pathVariable("id"))
+                .then(ServerResponse.noContent().build());
+    }
+
+    private static CategorySearchQuery queryOf(final ServerRequest request) {
+        return new CategorySearchQuery(
+                intParam(request, "page", 0),
+                intParam(request, "perPage", 10),
+                request.queryParam("search").orElse(""),
+                request.queryParam("sort").orElse("name"),
+                request.queryParam("dir").orElse("asc"),
+                request.queryParam("after").orElse(null),
+                TotalMode.of(request.queryParam("total").orElse("exact")));
+    }
+
+    private static int intParam(final ServerRequest request, final String aName, final int aDefault) {
+        final var aValue = request.queryParam(aName);
+        try {
+            return aValue.map(Integer::parseInt).orElse(aDefault);
+        } catch (final NumberFormatException ex) {
+            throw new ServerWebInputException("'%s' must be an integer".formatted(aName));
+        }
+    }
+
+    private static boolean notModified(final ServerRequest request, final String anETag) {
+        return CategoryETags.matches(request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH), anETag);
+    }
+
+    private static Mono<ServerResponse> unprocessable(final List<Error> anErrors) {
+        return ServerResponse.unprocessableEntity().bodyValue(ErrorResponse.from(anErrors));
+    }
+
+}
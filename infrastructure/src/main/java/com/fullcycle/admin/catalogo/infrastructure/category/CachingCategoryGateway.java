@@ -0,0 +1,255 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.pagination.TotalMode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+public class CachingCategoryGateway implements CategoryGateway, MeterBinder, AutoCloseable {
+
+    public static final String CACHE_NAME = "categories";
+
+    public static final String PAGES_CACHE_NAME = "category-pages";
+
+    private final CategoryGateway delegate;
+    private final Cache<CategoryID, Category> cache;
+    private final Cache<PageKey, Page> pages;
+    private final Set<PageKey> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+    private final Executor refreshExecutor;
+
+    public CachingCategoryGateway(final CategoryGateway delegate, final long maximumSize,
+                                  final Duration expireAfterWrite, final long pagesMaximumSize,
+                                  final Duration pagesExpireAfterWrite) {
+        this(delegate, maximumSize, expireAfterWrite, pagesMaximumSize, pagesExpireAfterWrite,
+                Ticker.systemTicker(), ForkJoinPool.commonPool(), refreshExecutor(pagesMaximumSize));
+    }
+
+    CachingCategoryGateway(final CategoryGateway delegate, final long maximumSize, final Duration expireAfterWrite,
+                           final long pagesMaximumSize, final Duration pagesExpireAfterWrite,
+                           final Ticker ticker, final Executor executor, final Executor refreshExecutor) {
+        this.delegate = requireNonNull(delegate);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(pagesMaximumSize)
+                .expireAfterWrite(pagesExpireAfterWrite)
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .build();
+        this.refreshExecutor = requireNonNull(refreshExecutor);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var created = this.delegate.create(aCategory);
+        written(List.of(created.getId()));
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var created = this.delegate.createAll(aCategories);
+        written(created.stream().map(Category::getId).toList());
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.delegate.deleteById(anId);
+        written(List.of(anId));
+    }
+
+    // Category is mutable (use cases call update on what they read), so only copies leave the cache.
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return Optional.ofNullable(this.cache.get(anId, id -> this.delegate.findById(id).orElse(null)))
+                .map(Category::clone);
+    }
+
+    // Answered from the cache when the category is there, without loading it on a miss.
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        final var cached = this.cache.getIfPresent(anId);
+        return cached != null ? Optional.of(cached.getUpdatedAt()) : this.delegate.findUpdatedAtById(anId);
+    }
+
+    // Hits are served from the cache and the misses loaded with a single delegate call. Loaded rows are only
+    // kept when no write happened meanwhile, as one could have changed them after they were read; the second
+    // check catches a write that bumped the generation while they were being put.
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        final var current = this.generation.get();
+        final var cached = this.cache.getAllPresent(anIds);
+        final var found = new ArrayList<>(cached.values());
+        if (cached.size() < anIds.size()) {
+            final var missing = anIds.stream().filter(anId -> !cached.containsKey(anId)).distinct().toList();
+            final var loaded = missing.isEmpty() ? List.<Category>of() : this.delegate.findAllByIds(missing);
+            if (this.generation.get() == current) {
+                loaded.forEach(aCategory -> this.cache.put(aCategory.getId(), aCategory));
+                if (this.generation.get() != current) {
+                    this.cache.invalidateAll(loaded.stream().map(Category::getId).toList());
+                }
+            }
+            found.addAll(loaded);
+        }
+        return CategoryIds.inRequestOrder(anIds, found).stream().map(Category::clone).toList();
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        try {
+            return this.delegate.update(aCategory);
+        } finally {
+            written(List.of(aCategory.getId()));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        final var aPage = (Pagination<Category>) page(PageKey.of(false, aQuery), () -> this.delegate.findAll(aQuery));
+        return aPage.map(Category::clone);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return (Pagination<CategorySummary>) page(PageKey.of(true, aQuery),
+                () -> this.delegate.findAllSummaries(aQuery));
+    }
+
+    // Not cached: an export reads every row once, it would only evict what the point reads keep warm.
+    @Override
+    public long forEachBatch(final int aBatchSize, final Consumer<List<CategorySummary>> aConsumer) {
+        return this.delegate.forEachBatch(aBatchSize, aConsumer);
+    }
+
+    // Writes made by other nodes, as reported by the change log.
+    public void evict(final List<CategoryID> anIds) {
+        written(anIds);
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    public CacheStats pagesStats() {
+        return this.pages.stats();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, this.cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(registry, this.pages, PAGES_CACHE_NAME);
+    }
+
+    // Pending page refreshes are dropped; stale pages are then served until the context is gone.
+    @Override
+    public void close() {
+        if (this.refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    // Any write may move any category between pages, so instead of tracking which pages hold which
+    // ids every write bumps the generation and all cached pages become stale at once.
+    private void written(final List<CategoryID> anIds) {
+        this.generation.incrementAndGet();
+        this.cache.invalidateAll(anIds);
+    }
+
+    private Pagination<?> page(final PageKey aKey, final Supplier<Pagination<?>> loader) {
+        final var current = this.generation.get();
+        final var cached = this.pages.getIfPresent(aKey);
+        if (cached == null) {
+            return this.pages.get(aKey, key -> new Page(current, loader.get())).value();
+        }
+
+        if (cached.generation() != current && this.refreshing.add(aKey)) {
+            refresh(aKey, current, loader);
+        }
+        return cached.value();
+    }
+
+    private void refresh(final PageKey aKey, final long aGeneration, final Supplier<Pagination<?>> loader) {
+        try {
+            this.refreshExecutor.execute(() -> {
+                try {
+                    this.pages.put(aKey, new Page(aGeneration, loader.get()));
+                } catch (final RuntimeException ex) {
+                    this.pages.invalidate(aKey);
+                } finally {
+                    this.refreshing.remove(aKey);
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            this.refreshing.remove(aKey);
+        }
+    }
+
+    private static Executor refreshExecutor(final long pagesMaximumSize) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>((int) Math.max(1, Math.min(pagesMaximumSize, Integer.MAX_VALUE))),
+                runnable -> {
+                    final var thread = new Thread(runnable, "category-page-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private record Page(long generation, Pagination<?> value) {
+    }
+
+    private record PageKey(boolean summaries, int page, int perPage, String terms, String sort, String direction,
+                           String after, TotalMode total, Set<CategoryField> fields) {
+
+        static PageKey of(final boolean summaries, final CategorySearchQuery aQuery) {
+            final var terms = aQuery.terms() == null ? "" : aQuery.terms().trim().replaceAll("\\s+", " ").toUpperCase();
+            final var direction = aQuery.direction() == null ? null : aQuery.direction().trim().toLowerCase();
+            final var after = aQuery.isKeyset() ? aQuery.after() : null;
+            return new PageKey(summaries, aQuery.page(), aQuery.perPage(), terms, aQuery.sort(), direction, after,
+                    aQuery.total(), summaries ? aQuery.fields() : CategoryField.ALL);
+        }
+
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryChangeLog;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+public class CategoryChangePoller implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryChangePoller.class);
+
+    static final int BATCH_SIZE = 500;
+
+    private static final Duration PRUNE_EVERY = Duration.ofHours(1);
+
+    private final CategoryChangeLog changeLog;
+    private final Consumer<List<CategoryID>> evictor;
+    private final Duration pollInterval;
+    private final Duration gracePeriod;
+    private final Duration retention;
+    private final Clock clock;
+    private final Set<Long> evictedAboveWatermark = new HashSet<>();
+    private ScheduledExecutorService scheduler;
+    private long watermark = -1;
+    private Instant lastPrune = Instant.MIN;
+    private volatile Instant settledUntil = Instant.MIN;
+
+    public CategoryChangePoller(final CategoryChangeLog changeLog, final Consumer<List<CategoryID>> evictor,
+                                final Duration pollInterval, final Duration gracePeriod, final Duration retention,
+                                final Clock clock) {
+        this.changeLog = requireNonNull(changeLog);
+        this.evictor = requireNonNull(evictor);
+        this.pollInterval = requireNonNull(pollInterval);
+        this.gracePeriod = requireNonNull(gracePeriod);
+        this.retention = requireNonNull(retention);
+        this.clock = requireNonNull(clock);
+    }
+
+    public synchronized void start() {
+        if (this.scheduler != null) {
+            return;
+        }
+        pollSafely();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-change-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final var millis = this.pollInterval.toMillis();
+        this.scheduler.scheduleWithFixedDelay(this::pollSafely, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+            this.scheduler = null;
+        }
+    }
+
+    // Sequences are handed out at insert time but become visible at commit time, so a lower one can show up
+    // after a higher one. The watermark only moves past rows older than the grace period; newer rows are read
+    // again on the next poll and evicted only once.
+    synchronized void poll() {
+        final var settled = this.clock.instant().minus(this.gracePeriod);
+        if (this.watermark < 0) {
+            this.watermark = this.changeLog.lastSequence();
+            this.settledUntil = settled;
+            return;
+        }
+
+        List<CategoryChangeLog.CategoryChange> changes;
+        long previous;
+        do {
+            previous = this.watermark;
+            changes = this.changeLog.after(this.watermark, BATCH_SIZE);
+
+            final var toEvict = changes.stream()
+                    .filter(change -> this.evictedAboveWatermark.add(change.sequence()))
+                    .map(CategoryChangeLog.CategoryChange::categoryId)
+                    .distinct()
+                    .toList();
+            if (!toEvict.isEmpty()) {
+                this.evictor.accept(toEvict);
+            }
+
+            for (final var change : changes) {
+                if (change.changedAt().isAfter(settled)) {
+                    break;
+                }
+                this.watermark = change.sequence();
+            }
+            final var aWatermark = this.watermark;
+            this.evictedAboveWatermark.removeIf(sequence -> sequence <= aWatermark);
+        } while (changes.size() == BATCH_SIZE && this.watermark > previous);
+
+        this.settledUntil = settled;
+        prune();
+    }
+
+    // Changes made before this instant have all been handed to the evictor: the start of the last successful
+    // poll, less the grace period. It stays put while polls fail, so it also tells how far behind the poller is.
+    public Instant settledUntil() {
+        return this.settledUntil;
+    }
+
+    private void prune() {
+        final var now = this.clock.instant();
+        if (this.lastPrune.plus(PRUNE_EVERY).isAfter(now)) {
+            return;
+        }
+        this.lastPrune = now;
+        this.changeLog.prune(now.minus(this.retention));
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (final RuntimeException ex) {
+            LOG.warn("Failed to poll category changes, retrying in {}", this.pollInterval, ex);
+        }
+    }
+
+}
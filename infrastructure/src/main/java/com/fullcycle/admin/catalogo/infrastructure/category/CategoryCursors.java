@@ -0,0 +1,72 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.pagination.Cursor;
+import com.fullcycle.catalogo.domain.validation.Error;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+// Keyset cursors and total-cache keys, shared by the gateways so a cursor issued by one is read the same by all.
+final class CategoryCursors {
+
+    static final String ID = "id";
+
+    private CategoryCursors() {
+    }
+
+    static Cursor decode(final CategorySearchQuery aQuery) {
+        final var aCursor = Cursor.decode(aQuery.after());
+        if (!UuidBinaryType.isUuid(aCursor.id())) {
+            throw invalid();
+        }
+        if (!aCursor.sort().equals(aQuery.sort())) {
+            throw DomainException.with(new Error("'after' cursor was not issued for sort '%s'"
+                    .formatted(aQuery.sort())));
+        }
+        return aCursor;
+    }
+
+    // The sort key as the column compares it: a String for name and id, an Instant for the timestamps.
+    static Object keyOf(final Cursor aCursor) {
+        try {
+            return switch (aCursor.sort()) {
+                case "name" -> aCursor.key();
+                case ID -> {
+                    if (!UuidBinaryType.isUuid(aCursor.key())) {
+                        throw invalid();
+                    }
+                    yield aCursor.key();
+                }
+                case "createdAt", "updatedAt" -> Instant.parse(aCursor.key());
+                default -> throw DomainException.with(new Error("'after' is not supported for sort '%s'"
+                        .formatted(aCursor.sort())));
+            };
+        } catch (final DateTimeParseException ex) {
+            throw invalid();
+        }
+    }
+
+    static String encode(final String aSort, final String anId, final String aName,
+                         final Instant aCreatedAt, final Instant anUpdatedAt) {
+        final var aKey = switch (aSort) {
+            case "name" -> aName;
+            case ID -> anId;
+            case "createdAt" -> aCreatedAt.toString();
+            case "updatedAt" -> anUpdatedAt.toString();
+            default -> null;
+        };
+        return aKey == null ? null : Cursor.with(aSort, anId, aKey).encode();
+    }
+
+    static String totalKeyOf(final String terms) {
+        return terms == null ? "" : terms.trim().toUpperCase();
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'after' is not a valid cursor"));
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryIdReader;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.util.Objects.requireNonNull;
+
+// Bloom filter of the existing category ids. A miss is definite, a hit only means "maybe". Ids are never
+// removed, so deletes only raise the false positive rate until the next rebuild drops them.
+public class CategoryIdFilter implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryIdFilter.class);
+
+    static final int SCAN_BATCH_SIZE = 10_000;
+
+    private final CategoryIdReader reader;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration rebuildInterval;
+    private final AtomicLong absent = new AtomicLong();
+    private final AtomicLong maybePresent = new AtomicLong();
+    private volatile Bits current;
+    private volatile Bits building;
+    private ScheduledExecutorService scheduler;
+
+    public CategoryIdFilter(final CategoryIdReader reader, final long expectedInsertions,
+                            final double falsePositiveRate, final Duration rebuildInterval) {
+        this.reader = requireNonNull(reader);
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildInterval = requireNonNull(rebuildInterval);
+    }
+
+    // The first build runs in the background; until it finishes every id is reported as maybe present.
+    public synchronized void start() {
+        if (this.scheduler != null) {
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-id-filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::rebuildSafely, 0, this.rebuildInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+            this.scheduler = null;
+        }
+    }
+
+    public boolean mightContain(final CategoryID anId) {
+        if (!UuidBinaryType.isUuid(anId.getValue())) {
+            this.absent.incrementAndGet();
+            return false;
+        }
+        final var bits = this.current;
+        final var result = bits == null || bits.mightContain(UUID.fromString(anId.getValue()));
+        (result ? this.maybePresent : this.absent).incrementAndGet();
+        return result;
+    }
+
+    // building is read before current: a rebuild swaps current first and clears building after, so one of
+    // the two reads always sees the filter that survives the swap.
+    public void putAll(final Collection<CategoryID> anIds) {
+        final var next = this.building;
+        final var bits = this.current;
+        for (final var anId : anIds) {
+            if (!UuidBinaryType.isUuid(anId.getValue())) {
+                continue;
+            }
+            final var uuid = UUID.fromString(anId.getValue());
+            if (next != null) {
+                next.put(uuid);
+            }
+            if (bits != null) {
+                bits.put(uuid);
+            }
+        }
+    }
+
+    synchronized void rebuild() {
+        final var previous = this.current;
+        final var insertions = Math.max(this.expectedInsertions, previous == null ? 0 : previous.insertions() * 2);
+        final var next = new Bits(insertions, this.falsePositiveRate);
+        this.building = next;
+        try {
+            this.reader.forEach(SCAN_BATCH_SIZE, anId -> next.put(UUID.fromString(anId.getValue())));
+            this.current = next;
+        } finally {
+            this.building = null;
+        }
+    }
+
+    public boolean isReady() {
+        return this.current != null;
+    }
+
+    public double expectedFalsePositiveRate() {
+        final var bits = this.current;
+        return bits == null ? 1d : bits.expectedFalsePositiveRate();
+    }
+
+    public long memoryBytes() {
+        final var bits = this.current;
+        return bits == null ? 0 : bits.memoryBytes();
+    }
+
+    // Not a MeterBinder: the filter is a bean, and MeterBinder beans are bound while the registry they need is
+    // still being created.
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("category.id.filter.expected.fpp", this, CategoryIdFilter::expectedFalsePositiveRate)
+                .description("Probability that an unknown category id still reaches the database")
+                .register(registry);
+        Gauge.builder("category.id.filter.memory", this, CategoryIdFilter::memoryBytes)
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        FunctionCounter.builder("category.id.filter.lookups", this.absent, AtomicLong::get)
+                .tag("result", "absent")
+                .register(registry);
+        FunctionCounter.builder("category.id.filter.lookups", this.maybePresent, AtomicLong::get)
+                .tag("result", "maybe")
+                .register(registry);
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (final RuntimeException ex) {
+            LOG.warn("Failed to rebuild the category id filter, retrying in {}", this.rebuildInterval, ex);
+        }
+    }
+
+    private static final class Bits {
+
+        private final AtomicLongArray words;
+        private final long size;
+        private final int hashes;
+        private final AtomicLong insertions = new AtomicLong();
+
+        private Bits(final long expectedInsertions, final double falsePositiveRate) {
+            final var optimal = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate)
+                    / (Math.log(2) * Math.log(2)));
+            this.words = new AtomicLongArray((int) Math.max(1, (optimal + 63) / 64));
+            this.size = this.words.length() * 64L;
+            this.hashes = (int) Math.max(1, Math.round((double) this.size / expectedInsertions * Math.log(2)));
+        }
+
+        private void put(final UUID anId) {
+            this.insertions.incrementAndGet();
+            final var h1 = mix(anId.getMostSignificantBits() ^ Long.rotateLeft(anId.getLeastSignificantBits(), 32));
+            final var h2 = mix(anId.getLeastSignificantBits() + h1) | 1;
+            for (int i = 0; i < this.hashes; i++) {
+                final var bit = Math.floorMod(h1 + i * h2, this.size);
+                this.words.getAndAccumulate((int) (bit >>> 6), 1L << bit, (word, mask) -> word | mask);
+            }
+        }
+
+        private boolean mightContain(final UUID anId) {
+            final var h1 = mix(anId.getMostSignificantBits() ^ Long.rotateLeft(anId.getLeastSignificantBits(), 32));
+            final var h2 = mix(anId.getLeastSignificantBits() + h1) | 1;
+            for (int i = 0; i < this.hashes; i++) {
+                final var bit = Math.floorMod(h1 + i * h2, this.size);
+                if ((this.words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long insertions() {
+            return this.insertions.get();
+        }
+
+        private double expectedFalsePositiveRate() {
+            long bitsSet = 0;
+            for (int i = 0; i < this.words.length(); i++) {
+                bitsSet += Long.bitCount(this.words.get(i));
+            }
+            return Math.pow((double) bitsSet / this.size, this.hashes);
+        }
+
+        private long memoryBytes() {
+            return this.size / 8;
+        }
+
+        // Time-ordered ids share their high bits, so both halves go through a finalizer before use.
+        private static long mix(long aValue) {
+            aValue ^= aValue >>> 33;
+            aValue *= 0xff51afd7ed558ccdL;
+            aValue ^= aValue >>> 33;
+            aValue *= 0xc4ceb9fe1a85ec53L;
+            aValue ^= aValue >>> 33;
+            return aValue;
+        }
+
+    }
+
+}
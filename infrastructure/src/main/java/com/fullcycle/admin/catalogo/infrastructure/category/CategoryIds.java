@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+// Shared by the gateways answering findAllByIds. Ids are stored lowercase, so they are compared lowercase.
+final class CategoryIds {
+
+    private CategoryIds() {
+    }
+
+    // Splits the well-formed ids into IN queries of at most aChunkSize ids each, asking for every id once.
+    static List<Category> findInChunks(final Collection<CategoryID> anIds, final int aChunkSize,
+                                       final Function<List<CategoryID>, List<Category>> aQuery) {
+        final var wellFormed = new LinkedHashSet<CategoryID>();
+        for (final var anId : anIds) {
+            if (UuidBinaryType.isUuid(anId.getValue())) {
+                wellFormed.add(CategoryID.from(keyOf(anId)));
+            }
+        }
+        if (wellFormed.isEmpty()) {
+            return List.of();
+        }
+
+        final var ids = List.copyOf(wellFormed);
+        final var found = new ArrayList<Category>(ids.size());
+        for (int from = 0; from < ids.size(); from += aChunkSize) {
+            found.addAll(aQuery.apply(ids.subList(from, Math.min(from + aChunkSize, ids.size()))));
+        }
+        return inRequestOrder(anIds, found);
+    }
+
+    // Lays found out in the order of anIds, once per id, leaving out the ids that were not found.
+    static List<Category> inRequestOrder(final Collection<CategoryID> anIds, final Collection<Category> found) {
+        final var byId = new HashMap<String, Category>(found.size() * 2);
+        found.forEach(aCategory -> byId.put(keyOf(aCategory.getId()), aCategory));
+
+        final var ordered = new ArrayList<Category>(found.size());
+        for (final var anId : anIds) {
+            final var aCategory = byId.remove(keyOf(anId));
+            if (aCategory != null) {
+                ordered.add(aCategory);
+            }
+        }
+        return ordered;
+    }
+
+    private static String keyOf(final CategoryID anId) {
+        return anId.getValue().toLowerCase(Locale.ROOT);
+    }
+
+}
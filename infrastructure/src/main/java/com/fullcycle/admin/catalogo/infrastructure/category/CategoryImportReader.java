@@ -0,0 +1,253 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoryRow;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.validation.Error;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+import static java.util.Objects.requireNonNull;
+
+// Lazily parses an import body, one row per next(). Malformed rows become invalid rows so they show up in the
+// report with their line number instead of aborting the whole import.
+public abstract class CategoryImportReader implements Iterator<ImportCategoryRow> {
+
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String ACTIVE = "active";
+
+    // Longest accepted row; longer ones are skipped to the next line instead of being buffered.
+    static final int MAX_ROW_LENGTH = 64 * 1024;
+
+    private final Reader reader;
+    private long line = 1;
+    private int peeked = -2;
+    private ImportCategoryRow next;
+    private boolean truncated;
+
+    protected CategoryImportReader(final Reader reader) {
+        this.reader = requireNonNull(reader);
+    }
+
+    // One JSON object per line with the same fields as POST /categories; blank lines are skipped.
+    public static CategoryImportReader ndjson(final Reader aReader, final ObjectMapper anObjectMapper) {
+        return new CategoryImportReader(aReader) {
+            @Override
+            protected ImportCategoryRow parse() {
+                String aLine;
+                long lineNumber;
+                do {
+                    lineNumber = line();
+                    aLine = readLine();
+                    if (aLine == null) {
+                        return null;
+                    }
+                } while (aLine.isBlank());
+
+                if (truncated()) {
+                    return tooLong(lineNumber);
+                }
+                try {
+                    final var aRequest = anObjectMapper.readValue(aLine, CreateCategoryRequest.class);
+                    if (aRequest == null) {
+                        return ImportCategoryRow.invalid(lineNumber, "Row must be a JSON object");
+                    }
+                    return ImportCategoryRow.valid(lineNumber,
+                            CreateCategoryCommand.with(aRequest.name(), aRequest.description(), aRequest.isActive()));
+                } catch (final JsonProcessingException ex) {
+                    return ImportCategoryRow.invalid(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+                }
+            }
+        };
+    }
+
+    // RFC 4180: a header naming the columns (name, description, active), quoted fields may hold commas,
+    // doubled quotes and line breaks. An empty description is null and an empty active means true.
+    public static CategoryImportReader csv(final Reader aReader) {
+        return new CategoryImportReader(aReader) {
+
+            private List<String> header;
+
+            @Override
+            protected ImportCategoryRow parse() {
+                if (this.header == null) {
+                    final var columns = readRecord();
+                    if (columns == null) {
+                        return null;
+                    }
+                    this.header = columns.stream().map(it -> it.trim().toLowerCase(Locale.ROOT)).toList();
+                    if (!this.header.contains(NAME)) {
+                        throw DomainException.with(new Error("CSV header must have a '%s' column".formatted(NAME)));
+                    }
+                }
+
+                long lineNumber;
+                List<String> fields;
+                do {
+                    lineNumber = line();
+                    fields = readRecord();
+                    if (fields == null) {
+                        return null;
+                    }
+                } while (fields.size() == 1 && fields.get(0).isEmpty() && !truncated());
+
+                if (truncated()) {
+                    return tooLong(lineNumber);
+                }
+                if (fields.size() != this.header.size()) {
+                    return ImportCategoryRow.invalid(lineNumber, "Expected %d columns but found %d"
+                            .formatted(this.header.size(), fields.size()));
+                }
+                final var active = field(fields, ACTIVE);
+                if (active != null && !"true".equalsIgnoreCase(active) && !"false".equalsIgnoreCase(active)) {
+                    return ImportCategoryRow.invalid(lineNumber, "'active' must be true or false");
+                }
+                return ImportCategoryRow.valid(lineNumber, CreateCategoryCommand.with(field(fields, NAME),
+                        field(fields, DESCRIPTION), active == null || Boolean.parseBoolean(active)));
+            }
+
+            private String field(final List<String> fields, final String aColumn) {
+                final var index = this.header.indexOf(aColumn);
+                return index < 0 || fields.get(index).isEmpty() ? null : fields.get(index);
+            }
+        };
+    }
+
+    // Returns null at the end of the input.
+    protected abstract ImportCategoryRow parse();
+
+    @Override
+    public boolean hasNext() {
+        if (this.next == null) {
+            this.next = parse();
+        }
+        return this.next != null;
+    }
+
+    @Override
+    public ImportCategoryRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final var aRow = this.next;
+        this.next = null;
+        return aRow;
+    }
+
+    protected long line() {
+        return this.line;
+    }
+
+    protected boolean truncated() {
+        return this.truncated;
+    }
+
+    protected static ImportCategoryRow tooLong(final long aLine) {
+        return ImportCategoryRow.invalid(aLine, "Row exceeds %d characters".formatted(MAX_ROW_LENGTH));
+    }
+
+    protected String readLine() {
+        var aChar = read();
+        if (aChar == -1) {
+            return null;
+        }
+        final var aLine = new StringBuilder();
+        this.truncated = false;
+        while (aChar != -1 && aChar != '\n') {
+            if (aLine.length() == MAX_ROW_LENGTH) {
+                this.truncated = true;
+            } else if (aChar != '\r') {
+                aLine.append((char) aChar);
+            }
+            aChar = read();
+        }
+        return aLine.toString();
+    }
+
+    protected List<String> readRecord() {
+        var aChar = read();
+        if (aChar == -1) {
+            return null;
+        }
+        final var fields = new ArrayList<String>();
+        final var field = new StringBuilder();
+        var quoted = false;
+        var length = 0;
+        this.truncated = false;
+        while (true) {
+            if (++length > MAX_ROW_LENGTH) {
+                this.truncated = true;
+                field.setLength(0);
+                fields.clear();
+            }
+            if (quoted) {
+                if (aChar == -1) {
+                    break;
+                }
+                if (aChar == '"') {
+                    if (peek() == '"') {
+                        field.append('"');
+                        read();
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) aChar);
+                }
+            } else if (aChar == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (aChar == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (aChar == '\n' || aChar == -1) {
+                break;
+            } else if (aChar != '\r') {
+                field.append((char) aChar);
+            }
+            aChar = read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int peek() {
+        if (this.peeked == -2) {
+            this.peeked = readChar();
+        }
+        return this.peeked;
+    }
+
+    private int read() {
+        final int aChar;
+        if (this.peeked != -2) {
+            aChar = this.peeked;
+            this.peeked = -2;
+        } else {
+            aChar = readChar();
+        }
+        if (aChar == '\n') {
+            this.line++;
+        }
+        return aChar;
+    }
+
+    private int readChar() {
+        try {
+            return this.reader.read();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+}
@@ -0,0 +1,292 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryChangeLog;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.validation.Error;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Service
+@ConditionalOnProperty(name = "category.gateway", havingValue = "jdbc")
+public class CategoryJdbcGateway implements CategoryGateway, AutoCloseable {
+
+    private static final String ID = CategoryCursors.ID;
+
+    private static final String COLUMNS = CategorySql.COLUMNS;
+
+    private static final String INSERT = "INSERT INTO category (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE = """
+            UPDATE category
+               SET name = ?, description = ?, active = ?, updated_at = ?, deleted_at = ?
+             WHERE id = ?
+            """;
+
+    private static final String DELETE = "DELETE FROM category WHERE id = ?";
+
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM category WHERE id = ?";
+
+    private static final String SELECT_BY_IDS = "SELECT " + COLUMNS + " FROM category WHERE id IN (%s)";
+
+    private static final String SELECT_UPDATED_AT_BY_ID = "SELECT updated_at FROM category WHERE id = ?";
+
+    private static final String SELECT_ALL = "SELECT " + COLUMNS + " FROM category ORDER BY id";
+
+    private static final RowMapper<Category> CATEGORY_MAPPER = (rs, rowNum) -> Category.with(
+            CategoryID.from(UuidBinaryType.fromBytes(rs.getBytes(1))),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getBoolean(4),
+            instantOf(rs, 5),
+            instantOf(rs, 6),
+            instantOf(rs, 7));
+
+    private static final RowMapper<CategorySummary> SUMMARY_MAPPER = (rs, rowNum) -> new CategorySummary(
+            UuidBinaryType.fromBytes(rs.getBytes(1)),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getBoolean(4),
+            instantOf(rs, 5),
+            instantOf(rs, 6),
+            instantOf(rs, 7));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final CategoryChangeLog changeLog;
+    private final CategorySql sql;
+    private final CategoryTotalCache totalCache;
+    private final int batchSize;
+    private final int fetchSize;
+    private final int idsPerQuery;
+
+    public CategoryJdbcGateway(final JdbcTemplate jdbcTemplate,
+                               final CategoryChangeLog changeLog,
+                               @Value("${category.search.strategy:like}") final CategorySearchStrategy searchStrategy,
+                               @Value("${category.pagination.approximate-total.refresh-after:30s}") final Duration refreshAfter,
+                               @Value("${category.pagination.approximate-total.max-entries:1000}") final int maxEntries,
+                               @Value("${spring.jpa.properties.[hibernate.jdbc.batch_size]:50}") final int batchSize,
+                               @Value("${category.export.fetch-size:1000}") final int fetchSize,
+                               @Value("${category.get-by-ids.chunk-size:500}") final int idsPerQuery) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.changeLog = changeLog;
+        this.sql = new CategorySql(searchStrategy, Timestamp::from);
+        this.totalCache = new CategoryTotalCache(refreshAfter, maxEntries);
+        this.batchSize = batchSize;
+        this.fetchSize = fetchSize;
+        this.idsPerQuery = idsPerQuery;
+    }
+
+    @Override
+    @Transactional
+    public Category create(final Category aCategory) {
+        this.jdbcTemplate.update(INSERT, ps -> bindInsert(ps, aCategory));
+        this.changeLog.record(List.of(aCategory.getId()));
+        return aCategory;
+    }
+
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> aCategories) {
+        this.jdbcTemplate.batchUpdate(INSERT, aCategories, this.batchSize, CategoryJdbcGateway::bindInsert);
+        this.changeLog.record(aCategories.stream().map(Category::getId).toList());
+        return aCategories;
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(final CategoryID anId) {
+        if (UuidBinaryType.isUuid(anId.getValue())
+                && this.jdbcTemplate.update(DELETE, (Object) UuidBinaryType.toBytes(anId.getValue())) > 0) {
+            this.changeLog.record(List.of(anId));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Category> findById(final CategoryID anId) {
+        if (!UuidBinaryType.isUuid(anId.getValue())) {
+            return Optional.empty();
+        }
+        return this.jdbcTemplate.query(SELECT_BY_ID, CATEGORY_MAPPER, (Object) UuidBinaryType.toBytes(anId.getValue()))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        if (!UuidBinaryType.isUuid(anId.getValue())) {
+            return Optional.empty();
+        }
+        return this.jdbcTemplate.query(SELECT_UPDATED_AT_BY_ID, (rs, rowNum) -> instantOf(rs, 1),
+                        (Object) UuidBinaryType.toBytes(anId.getValue()))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        return CategoryIds.findInChunks(anIds, this.idsPerQuery, ids -> this.jdbcTemplate.query(
+                SELECT_BY_IDS.formatted(String.join(", ", Collections.nCopies(ids.size(), "?"))),
+                CATEGORY_MAPPER,
+                ids.stream().map(anId -> UuidBinaryType.toBytes(anId.getValue())).toArray()));
+    }
+
+    @Override
+    @Transactional
+    public Category update(final Category aCategory) {
+        final var anId = aCategory.getId();
+        final var updated = !UuidBinaryType.isUuid(anId.getValue()) ? 0 : this.jdbcTemplate.update(UPDATE, ps -> {
+            ps.setString(1, aCategory.getName());
+            ps.setString(2, aCategory.getDescription());
+            ps.setBoolean(3, aCategory.isActive());
+            ps.setTimestamp(4, timestampOf(aCategory.getUpdatedAt()));
+            ps.setTimestamp(5, timestampOf(aCategory.getDeletedAt()));
+            ps.setBytes(6, UuidBinaryType.toBytes(anId.getValue()));
+        });
+
+        if (updated == 0) {
+            throw DomainException.with(new Error("Category with ID %s was not found".formatted(anId.getValue())));
+        }
+        this.changeLog.record(List.of(anId));
+        return aCategory;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return find(aQuery, CategoryField.ALL, CATEGORY_MAPPER, aCategory -> CategoryCursors.encode(aQuery.sort(),
+                aCategory.getId().getValue(), aCategory.getName(), aCategory.getCreatedAt(), aCategory.getUpdatedAt()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return find(aQuery, projectionOf(aQuery), SUMMARY_MAPPER, aSummary -> CategoryCursors.encode(aQuery.sort(),
+                aSummary.id().getValue(), aSummary.name(), aSummary.createdAt(), aSummary.updatedAt()));
+    }
+
+    // Forward-only, read-only cursor: with useCursorFetch the driver keeps only fetchSize rows in memory.
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachBatch(final int aBatchSize, final Consumer<List<CategorySummary>> aConsumer) {
+        final var batch = new ArrayList<CategorySummary>(aBatchSize);
+        final var count = new long[1];
+        this.jdbcTemplate.query(connection -> {
+            final var ps = connection.prepareStatement(SELECT_ALL, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(this.fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            batch.add(SUMMARY_MAPPER.mapRow(rs, rs.getRow()));
+            if (batch.size() == aBatchSize) {
+                aConsumer.accept(List.copyOf(batch));
+                count[0] += batch.size();
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            aConsumer.accept(List.copyOf(batch));
+            count[0] += batch.size();
+        }
+        return count[0];
+    }
+
+    @Override
+    public void close() {
+        this.totalCache.close();
+    }
+
+    private <T> Pagination<T> find(final CategorySearchQuery aQuery, final Set<CategoryField> fields,
+                                   final RowMapper<T> aMapper, final Function<T, String> cursorOf) {
+        final var search = this.sql.searchOf(aQuery.terms());
+        final var select = this.sql.select(aQuery, fields, search);
+        final var rows = this.namedJdbcTemplate.query(select.sql(), select.params(), aMapper);
+
+        final var hasNext = rows.size() > aQuery.perPage();
+        final var items = hasNext ? rows.subList(0, aQuery.perPage()) : rows;
+        final var nextCursor = hasNext && !items.isEmpty()
+                ? cursorOf.apply(items.get(items.size() - 1))
+                : null;
+        final var total = totalOf(aQuery, search);
+
+        return new Pagination<>(aQuery.page(),
+                aQuery.perPage(),
+                total.value(),
+                List.copyOf(items),
+                nextCursor,
+                hasNext,
+                total.approximate());
+    }
+
+    private CategoryTotalCache.Total totalOf(final CategorySearchQuery aQuery, final CategorySql.Search search) {
+        return switch (aQuery.total()) {
+            case EXACT -> new CategoryTotalCache.Total(count(search), false);
+            case NONE -> new CategoryTotalCache.Total(Pagination.UNKNOWN_TOTAL, false);
+            case APPROXIMATE -> this.totalCache.get(CategoryCursors.totalKeyOf(aQuery.terms()), () -> count(search));
+        };
+    }
+
+    private long count(final CategorySql.Search search) {
+        final var count = this.sql.count(search);
+        final var total = this.namedJdbcTemplate.queryForObject(count.sql(), count.params(), Long.class);
+        return total == null ? 0 : total;
+    }
+
+    // Cursors are built from the id and the sort key, so those are read whatever fields were asked for.
+    private static Set<CategoryField> projectionOf(final CategorySearchQuery aQuery) {
+        return CategoryField.with(aQuery.fields(), CategoryField.ID,
+                CategoryField.find(aQuery.sort()).orElse(CategoryField.ID));
+    }
+
+    private static void bindInsert(final PreparedStatement ps, final Category aCategory) throws SQLException {
+        ps.setBytes(1, UuidBinaryType.toBytes(aCategory.getId().getValue()));
+        ps.setString(2, aCategory.getName());
+        ps.setString(3, aCategory.getDescription());
+        ps.setBoolean(4, aCategory.isActive());
+        ps.setTimestamp(5, timestampOf(aCategory.getCreatedAt()));
+        ps.setTimestamp(6, timestampOf(aCategory.getUpdatedAt()));
+        ps.setTimestamp(7, timestampOf(aCategory.getDeletedAt()));
+    }
+
+    private static Timestamp timestampOf(final Instant anInstant) {
+        return anInstant == null ? null : Timestamp.from(anInstant);
+    }
+
+    private static Instant instantOf(final ResultSet rs, final int column) throws SQLException {
+        final var timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+}
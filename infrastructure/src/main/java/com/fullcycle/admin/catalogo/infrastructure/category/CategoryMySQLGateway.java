@@ -1,76 +1,294 @@
 package com.fullcycle.admin.catalogo.infrastructure.category;
 
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryChangeLog;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
 import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryField;
 import com.fullcycle.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.catalogo.domain.category.CategoryID;
 import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.pagination.Cursor;
 import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.catalogo.domain.validation.Error;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-
-import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.like;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 @Service
-public class CategoryMySQLGateway implements CategoryGateway {
+@ConditionalOnProperty(name = "category.gateway", havingValue = "jpa", matchIfMissing = true)
+public class CategoryMySQLGateway implements CategoryGateway, AutoCloseable {
+
+    private static final String ID = CategoryCursors.ID;
 
     private final CategoryRepository repository;
+    private final CategoryChangeLog changeLog;
+    private final CategoryTotalCache totalCache;
+    private final CategorySearchStrategy searchStrategy;
+    private final int fetchSize;
+    private final int idsPerQuery;
 
-    public CategoryMySQLGateway(CategoryRepository repository) {
+    public CategoryMySQLGateway(final CategoryRepository repository,
+                                final CategoryChangeLog changeLog,
+                                @Value("${category.search.strategy:like}") final CategorySearchStrategy searchStrategy,
+                                @Value("${category.pagination.approximate-total.refresh-after:30s}") final Duration refreshAfter,
+                                @Value("${category.pagination.approximate-total.max-entries:1000}") final int maxEntries,
+                                @Value("${category.export.fetch-size:1000}") final int fetchSize,
+                                @Value("${category.get-by-ids.chunk-size:500}") final int idsPerQuery) {
         this.repository = repository;
+        this.changeLog = changeLog;
+        this.searchStrategy = searchStrategy;
+        this.totalCache = new CategoryTotalCache(refreshAfter, maxEntries);
+        this.fetchSize = fetchSize;
+        this.idsPerQuery = idsPerQuery;
     }
 
     @Override
-    public Category create(Category aCategory) {
-        return save(aCategory);
+    @Transactional
+    public Category create(final Category aCategory) {
+        final var created = this.repository.save(CategoryJpaEntity.from(aCategory).asNew()).toAggregate();
+        this.changeLog.record(List.of(created.getId()));
+        return created;
     }
 
-    public Category save(final Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var entities = aCategories.stream().map(CategoryJpaEntity::from).toList();
+        final var created = this.repository.insertAll(entities).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+        this.changeLog.record(created.stream().map(Category::getId).toList());
+        return created;
     }
 
     @Override
-    public void deleteById(CategoryID anId) {
-        final var anIdValue = anId.getValue();
-        if (this.repository.existsById(anIdValue)) {
-            this.repository.deleteById(anIdValue);
+    @Transactional
+    public void deleteById(final CategoryID anId) {
+        if (UuidBinaryType.isUuid(anId.getValue()) && this.repository.removeById(anId.getValue()) > 0) {
+            this.changeLog.record(List.of(anId));
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Category> findById(CategoryID anId) {
+        if (!UuidBinaryType.isUuid(anId.getValue())) {
+            return Optional.empty();
+        }
         return this.repository.findById(anId.getValue()).map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        if (!UuidBinaryType.isUuid(anId.getValue())) {
+            return Optional.empty();
+        }
+        return this.repository.findUpdatedAtById(anId.getValue());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        return CategoryIds.findInChunks(anIds, this.idsPerQuery, ids -> this.repository.findAllById(ids.stream()
+                        .map(CategoryID::getValue)
+                        .toList())
+                .stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList());
+    }
+
+    @Override
+    @Transactional
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        final var anId = aCategory.getId();
+        final var updated = !UuidBinaryType.isUuid(anId.getValue()) ? 0 : this.repository.updateById(anId.getValue(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt());
+
+        if (updated == 0) {
+            throw DomainException.with(new Error("Category with ID %s was not found".formatted(anId.getValue())));
+        }
+        this.changeLog.record(List.of(anId));
+        return aCategory;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
-        final var page = PageRequest.of(aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort()));
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        final var sort = sortWithTieBreaker(aQuery.sort(), direction);
+        final var specifications = searchOf(aQuery);
+
+        if (!aQuery.isKeyset() && aQuery.total() == TotalMode.EXACT) {
+            return findPage(aQuery, sort, specifications);
+        }
+        return findSlice(aQuery, sort, direction, specifications, this.repository::findSlice,
+                CategoryMySQLGateway::cursorOf).map(CategoryJpaEntity::toAggregate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        final var sort = sortWithTieBreaker(aQuery.sort(), direction);
+        final var fields = projectionOf(aQuery);
+
+        return findSlice(aQuery, sort, direction, searchOf(aQuery), (whereClause, aSort, offset, limit) ->
+                        this.repository.findSummarySlice(whereClause, aSort, offset, limit, fields),
+                CategoryMySQLGateway::cursorOf);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachBatch(final int aBatchSize, final Consumer<List<CategorySummary>> aConsumer) {
+        long count = 0;
+        final var batch = new ArrayList<CategorySummary>(aBatchSize);
+        try (final var summaries = this.repository.streamSummaries(Sort.by(ID), this.fetchSize)) {
+            final var iterator = summaries.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == aBatchSize) {
+                    aConsumer.accept(List.copyOf(batch));
+                    count += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            aConsumer.accept(List.copyOf(batch));
+            count += batch.size();
+        }
+        return count;
+    }
+
+    @Override
+    public void close() {
+        this.totalCache.close();
+    }
+
+    // Cursors are built from the id and the sort key, so those are read whatever fields were asked for.
+    private static Set<CategoryField> projectionOf(final CategorySearchQuery aQuery) {
+        return CategoryField.with(aQuery.fields(), CategoryField.ID,
+                CategoryField.find(aQuery.sort()).orElse(CategoryField.ID));
+    }
 
-        final var specifications = Optional.ofNullable(aQuery.terms())
+    private Specification<CategoryJpaEntity> searchOf(final CategorySearchQuery aQuery) {
+        return Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
-                .map(str -> SpecificationUtils.<CategoryJpaEntity>like("name", str)
-                        .or(like("description", str)))
+                .map(this.searchStrategy::search)
                 .orElse(null);
+    }
+
+    private Pagination<Category> findPage(final CategorySearchQuery aQuery, final Sort sort,
+                                          final Specification<CategoryJpaEntity> specifications) {
+        final var page = PageRequest.of(aQuery.page(), aQuery.perPage(), sort);
 
         final var pageResult = this.repository.findAll(Specification.where(specifications), page);
-        
+        final var nextCursor = pageResult.hasNext() && pageResult.hasContent()
+                ? cursorOf(pageResult.getContent().get(pageResult.getNumberOfElements() - 1), aQuery.sort())
+                : null;
+
         return new Pagination<>(pageResult.getNumber(),
                 pageResult.getSize(),
                 pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList());
+                pageResult.map(CategoryJpaEntity::toAggregate).toList(),
+                nextCursor,
+                pageResult.hasNext(),
+                false);
+    }
+
+    private <T> Pagination<T> findSlice(final CategorySearchQuery aQuery, final Sort sort,
+                                        final Sort.Direction direction,
+                                        final Specification<CategoryJpaEntity> specifications,
+                                        final SliceQuery<T> sliceQuery,
+                                        final BiFunction<T, String, String> cursorOf) {
+        final var whereClause = aQuery.isKeyset()
+                ? Specification.where(specifications).and(after(CategoryCursors.decode(aQuery), direction))
+                : Specification.where(specifications);
+        final var offset = aQuery.isKeyset() ? 0L : (long) aQuery.page() * aQuery.perPage();
+
+        final var rows = sliceQuery.find(whereClause, sort, offset, aQuery.perPage() + 1);
+
+        final var hasNext = rows.size() > aQuery.perPage();
+        final var items = hasNext ? rows.subList(0, aQuery.perPage()) : rows;
+        final var nextCursor = hasNext && !items.isEmpty()
+                ? cursorOf.apply(items.get(items.size() - 1), aQuery.sort())
+                : null;
+        final var total = totalOf(aQuery, specifications);
+
+        return new Pagination<>(aQuery.page(),
+                aQuery.perPage(),
+                total.value(),
+                List.copyOf(items),
+                nextCursor,
+                hasNext,
+                total.approximate());
+    }
+
+    private CategoryTotalCache.Total totalOf(final CategorySearchQuery aQuery,
+                                             final Specification<CategoryJpaEntity> specifications) {
+        return switch (aQuery.total()) {
+            case EXACT -> new CategoryTotalCache.Total(count(specifications), false);
+            case NONE -> new CategoryTotalCache.Total(Pagination.UNKNOWN_TOTAL, false);
+            case APPROXIMATE -> this.totalCache.get(CategoryCursors.totalKeyOf(aQuery.terms()),
+                    () -> count(specifications));
+        };
+    }
+
+    private long count(final Specification<CategoryJpaEntity> specifications) {
+        return this.repository.count(Specification.where(specifications));
+    }
+
+    private static Sort sortWithTieBreaker(final String aSort, final Sort.Direction direction) {
+        final var sort = Sort.by(direction, aSort);
+        return ID.equals(aSort) ? sort : sort.and(Sort.by(direction, ID));
+    }
+
+    private static Specification<CategoryJpaEntity> after(final Cursor aCursor, final Sort.Direction direction) {
+        final var ascending = direction.isAscending();
+        final var aKey = CategoryCursors.keyOf(aCursor);
+        return aKey instanceof Instant anInstant
+                ? SpecificationUtils.after(aCursor.sort(), anInstant, ID, aCursor.id(), ascending)
+                : SpecificationUtils.after(aCursor.sort(), (String) aKey, ID, aCursor.id(), ascending);
+    }
+
+    private static String cursorOf(final CategoryJpaEntity anEntity, final String aSort) {
+        return CategoryCursors.encode(aSort, anEntity.getId(), anEntity.getName(), anEntity.getCreatedAt(),
+                anEntity.getUpdatedAt());
+    }
+
+    private static String cursorOf(final CategorySummary aSummary, final String aSort) {
+        return CategoryCursors.encode(aSort, aSummary.id().getValue(), aSummary.name(), aSummary.createdAt(),
+                aSummary.updatedAt());
+    }
+
+    @FunctionalInterface
+    private interface SliceQuery<T> {
+        List<T> find(Specification<CategoryJpaEntity> whereClause, Sort sort, long offset, int limit);
     }
 
 }
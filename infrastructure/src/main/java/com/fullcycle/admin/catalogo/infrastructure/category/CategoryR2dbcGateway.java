@@ -0,0 +1,254 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.validation.Error;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class CategoryR2dbcGateway implements ReactiveCategoryGateway, AutoCloseable {
+
+    private static final String ID = CategoryCursors.ID;
+
+    private static final String COLUMNS = CategorySql.COLUMNS;
+
+    private static final String INSERT = "INSERT INTO category (" + COLUMNS + ")"
+            + " VALUES (:id, :name, :description, :active, :createdAt, :updatedAt, :deletedAt)";
+
+    private static final String UPDATE = """
+            UPDATE category
+               SET name = :name, description = :description, active = :active,
+                   updated_at = :updatedAt, deleted_at = :deletedAt
+             WHERE id = :id
+            """;
+
+    private static final String DELETE = "DELETE FROM category WHERE id = :id";
+
+    private static final String INSERT_CHANGE =
+            "INSERT INTO category_changes (category_id, changed_at) VALUES (:categoryId, :changedAt)";
+
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM category WHERE id = :id";
+
+    private static final BiFunction<Row, RowMetadata, Category> CATEGORY_MAPPER = (row, metadata) -> Category.with(
+            CategoryID.from(UuidBinaryType.fromBytes(row.get(0, byte[].class))),
+            row.get(1, String.class),
+            row.get(2, String.class),
+            Boolean.TRUE.equals(row.get(3, Boolean.class)),
+            instantOf(row, 4),
+            instantOf(row, 5),
+            instantOf(row, 6));
+
+    private static final BiFunction<Row, RowMetadata, CategorySummary> SUMMARY_MAPPER = (row, metadata) ->
+            new CategorySummary(
+                    UuidBinaryType.fromBytes(row.get(0, byte[].class)),
+                    row.get(1, String.class),
+                    row.get(2, String.class),
+                    Boolean.TRUE.equals(row.get(3, Boolean.class)),
+                    instantOf(row, 4),
+                    instantOf(row, 5),
+                    instantOf(row, 6));
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final CategorySql sql;
+    private final CategoryTotalCache totalCache;
+
+    public CategoryR2dbcGateway(final ConnectionFactory connectionFactory,
+                                @Value("${category.search.strategy:like}") final CategorySearchStrategy searchStrategy,
+                                @Value("${category.pagination.approximate-total.refresh-after:30s}") final Duration refreshAfter,
+                                @Value("${category.pagination.approximate-total.max-entries:1000}") final int maxEntries) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+        this.sql = new CategorySql(searchStrategy, CategoryR2dbcGateway::dateTimeOf);
+        this.totalCache = new CategoryTotalCache(refreshAfter, maxEntries);
+    }
+
+    @Override
+    public Mono<Category> create(final Category aCategory) {
+        return insert(aCategory)
+                .then(recordChange(aCategory.getId()))
+                .thenReturn(aCategory)
+                .as(this.transactionalOperator::transactional);
+    }
+
+    @Override
+    public Flux<Category> createAll(final List<Category> aCategories) {
+        return Flux.fromIterable(aCategories)
+                .concatMap(aCategory -> insert(aCategory).then(recordChange(aCategory.getId())).thenReturn(aCategory))
+                .as(this.transactionalOperator::transactional);
+    }
+
+    @Override
+    public Mono<Void> deleteById(final CategoryID anId) {
+        if (!UuidBinaryType.isUuid(anId.getValue())) {
+            return Mono.empty();
+        }
+        return this.databaseClient.sql(DELETE)
+                .bind(ID, UuidBinaryType.toBytes(anId.getValue()))
+                .fetch()
+                .rowsUpdated()
+                .flatMap(rows -> rows == 0 ? Mono.<Void>empty() : recordChange(anId))
+                .as(this.transactionalOperator::transactional);
+    }
+
+    @Override
+    public Mono<Category> findById(final CategoryID anId) {
+        if (!UuidBinaryType.isUuid(anId.getValue())) {
+            return Mono.empty();
+        }
+        return this.databaseClient.sql(SELECT_BY_ID)
+                .bind(ID, UuidBinaryType.toBytes(anId.getValue()))
+                .map(CATEGORY_MAPPER)
+                .one();
+    }
+
+    @Override
+    public Mono<Category> update(final Category aCategory) {
+        final var anId = aCategory.getId();
+        final var updated = !UuidBinaryType.isUuid(anId.getValue())
+                ? Mono.just(0)
+                : bindValues(this.databaseClient.sql(UPDATE), aCategory).fetch().rowsUpdated();
+
+        return updated.flatMap(rows -> rows == 0
+                ? Mono.error(DomainException.with(new Error("Category with ID %s was not found"
+                        .formatted(anId.getValue()))))
+                : recordChange(anId).thenReturn(aCategory))
+                .as(this.transactionalOperator::transactional);
+    }
+
+    @Override
+    public Mono<Pagination<CategorySummary>> findAllSummaries(final CategorySearchQuery aQuery) {
+        return Mono.defer(() -> find(aQuery, SUMMARY_MAPPER, aSummary -> CategoryCursors.encode(aQuery.sort(),
+                aSummary.id().getValue(), aSummary.name(), aSummary.createdAt(), aSummary.updatedAt())));
+    }
+
+    @Override
+    public void close() {
+        this.totalCache.close();
+    }
+
+    private Mono<Void> insert(final Category aCategory) {
+        return bindValues(this.databaseClient.sql(INSERT), aCategory)
+                .bind("createdAt", dateTimeOf(aCategory.getCreatedAt()))
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    private Mono<Void> recordChange(final CategoryID anId) {
+        return this.databaseClient.sql(INSERT_CHANGE)
+                .bind("categoryId", UuidBinaryType.toBytes(anId.getValue()))
+                .bind("changedAt", dateTimeOf(Instant.now()))
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    private <T> Mono<Pagination<T>> find(final CategorySearchQuery aQuery,
+                                         final BiFunction<Row, RowMetadata, T> aMapper,
+                                         final Function<T, String> cursorOf) {
+        final var search = this.sql.searchOf(aQuery.terms());
+        final var select = this.sql.select(aQuery, CategoryField.ALL, search);
+        final var rows = bindAll(this.databaseClient.sql(select.sql()), select.params())
+                .map(aMapper)
+                .all()
+                .collectList();
+
+        return Mono.zip(rows, totalOf(aQuery, search)).map(tuple -> {
+            final var items = tuple.getT1();
+            final var total = tuple.getT2();
+            final var hasNext = items.size() > aQuery.perPage();
+            final var page = hasNext ? items.subList(0, aQuery.perPage()) : items;
+            final var nextCursor = hasNext && !page.isEmpty()
+                    ? cursorOf.apply(page.get(page.size() - 1))
+                    : null;
+
+            return new Pagination<>(aQuery.page(),
+                    aQuery.perPage(),
+                    total.value(),
+                    List.copyOf(page),
+                    nextCursor,
+                    hasNext,
+                    total.approximate());
+        });
+    }
+
+    private Mono<CategoryTotalCache.Total> totalOf(final CategorySearchQuery aQuery,
+                                                   final CategorySql.Search search) {
+        return switch (aQuery.total()) {
+            case EXACT -> count(search).map(total -> new CategoryTotalCache.Total(total, false));
+            case NONE -> Mono.just(new CategoryTotalCache.Total(Pagination.UNKNOWN_TOTAL, false));
+            case APPROXIMATE -> Mono.fromFuture(() -> this.totalCache.getAsync(
+                    CategoryCursors.totalKeyOf(aQuery.terms()), () -> count(search).toFuture()));
+        };
+    }
+
+    private Mono<Long> count(final CategorySql.Search search) {
+        final var count = this.sql.count(search);
+        return bindAll(this.databaseClient.sql(count.sql()), count.params())
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one()
+                .defaultIfEmpty(0L);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindValues(final DatabaseClient.GenericExecuteSpec aSpec,
+                                                                final Category aCategory) {
+        final var spec = aSpec
+                .bind(ID, UuidBinaryType.toBytes(aCategory.getId().getValue()))
+                .bind("name", aCategory.getName())
+                .bind("active", aCategory.isActive())
+                .bind("updatedAt", dateTimeOf(aCategory.getUpdatedAt()));
+        final var withDescription = aCategory.getDescription() == null
+                ? spec.bindNull("description", String.class)
+                : spec.bind("description", aCategory.getDescription());
+        return aCategory.getDeletedAt() == null
+                ? withDescription.bindNull("deletedAt", LocalDateTime.class)
+                : withDescription.bind("deletedAt", dateTimeOf(aCategory.getDeletedAt()));
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindAll(final DatabaseClient.GenericExecuteSpec aSpec,
+                                                             final Map<String, Object> params) {
+        var spec = aSpec;
+        for (final var param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec;
+    }
+
+    private static LocalDateTime dateTimeOf(final Instant anInstant) {
+        return LocalDateTime.ofInstant(anInstant, ZoneOffset.UTC);
+    }
+
+    private static Instant instantOf(final Row row, final int column) {
+        final var dateTime = row.get(column, LocalDateTime.class);
+        return dateTime == null ? null : dateTime.toInstant(ZoneOffset.UTC);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.like;
+
+public enum CategorySearchStrategy {
+
+    LIKE {
+        @Override
+        public Specification<CategoryJpaEntity> search(final String terms) {
+            return SpecificationUtils.<CategoryJpaEntity>like("name", terms)
+                    .or(like("description", terms));
+        }
+    },
+
+    FULLTEXT {
+        @Override
+        public Specification<CategoryJpaEntity> search(final String terms) {
+            return booleanQuery(terms)
+                    .map(query -> SpecificationUtils.<CategoryJpaEntity>match(query, "name", "description"))
+                    .orElseGet(() -> LIKE.search(terms));
+        }
+    };
+
+    // Default innodb_ft_min_token_size: shorter words are not indexed, so they can only be found with LIKE.
+    static final int MIN_TOKEN_SIZE = 3;
+
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+    public abstract Specification<CategoryJpaEntity> search(String terms);
+
+    static Optional<String> booleanQuery(final String terms) {
+        final var words = Arrays.stream(terms.replaceAll(BOOLEAN_OPERATORS, " ").trim().split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+
+        if (words.isEmpty() || words.stream().anyMatch(word -> word.length() < MIN_TOKEN_SIZE)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(words.stream()
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" ")));
+    }
+
+}
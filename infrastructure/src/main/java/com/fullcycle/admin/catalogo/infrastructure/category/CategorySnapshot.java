@@ -0,0 +1,244 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+// Read-only view over a snapshot file mapped outside the heap. Layout: a header, one fixed-width entry per
+// category sorted by id, the entry positions in name order and a heap with the UTF-8 names and descriptions.
+// Lookups only read primitives at absolute offsets, so nothing is allocated until a category is returned.
+public final class CategorySnapshot {
+
+    private static final int MAGIC = 0x43534E50;
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 32;
+    private static final int COUNT = 8;
+    private static final int TAKEN_AT = 16;
+    private static final int HEAP = 24;
+
+    private static final int ENTRY_SIZE = 64;
+    private static final int MSB = 0;
+    private static final int LSB = 8;
+    private static final int CREATED_AT = 16;
+    private static final int UPDATED_AT = 24;
+    private static final int DELETED_AT = 32;
+    private static final int NAME = 40;
+    private static final int DESCRIPTION = 48;
+    private static final int ACTIVE = 56;
+
+    private static final long NULL_INSTANT = Long.MIN_VALUE;
+    private static final int NULL_STRING = -1;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int heap;
+    private final Instant takenAt;
+
+    private CategorySnapshot(final ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not a category snapshot");
+        }
+        this.buffer = buffer;
+        this.size = buffer.getInt(COUNT);
+        this.takenAt = instantOf(buffer.getLong(TAKEN_AT));
+        this.heap = (int) buffer.getLong(HEAP);
+        if (this.size < 0 || this.heap != HEADER_SIZE + (long) this.size * (ENTRY_SIZE + Integer.BYTES)
+                || this.heap > buffer.capacity()) {
+            throw new IllegalArgumentException("Truncated category snapshot");
+        }
+    }
+
+    public static CategorySnapshot open(final Path aPath) throws IOException {
+        try (final var channel = FileChannel.open(aPath, StandardOpenOption.READ)) {
+            return new CategorySnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    // Categories must be given in the order the database sorts them by name, which the snapshot cannot
+    // reproduce on its own. The file is written next to the target and moved over it, so readers only ever
+    // map a complete snapshot.
+    public static void write(final Path aPath, final Instant aTakenAt, final List<Category> byName)
+            throws IOException {
+        final var rows = new ArrayList<Row>(byName.size());
+        long heapSize = 0;
+        for (int rank = 0; rank < byName.size(); rank++) {
+            final var row = Row.of(byName.get(rank), rank);
+            rows.add(row);
+            heapSize += lengthOf(row.name()) + lengthOf(row.description());
+        }
+        rows.sort(Row.BY_ID);
+
+        final long heap = HEADER_SIZE + (long) rows.size() * (ENTRY_SIZE + Integer.BYTES);
+        if (heap + heapSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Category snapshot would exceed 2GB");
+        }
+
+        final var temp = aPath.resolveSibling(aPath.getFileName() + ".tmp");
+        try (final var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final var out = channel.map(FileChannel.MapMode.READ_WRITE, 0, heap + heapSize);
+            out.putInt(0, MAGIC)
+                    .putInt(4, VERSION)
+                    .putInt(COUNT, rows.size())
+                    .putLong(TAKEN_AT, microsOf(aTakenAt))
+                    .putLong(HEAP, heap);
+
+            final var positions = HEADER_SIZE + rows.size() * ENTRY_SIZE;
+            var heapOffset = 0;
+            for (int index = 0; index < rows.size(); index++) {
+                final var row = rows.get(index);
+                final var aCategory = row.category();
+                final var entry = HEADER_SIZE + index * ENTRY_SIZE;
+                out.putLong(entry + MSB, row.msb())
+                        .putLong(entry + LSB, row.lsb())
+                        .putLong(entry + CREATED_AT, microsOf(aCategory.getCreatedAt()))
+                        .putLong(entry + UPDATED_AT, microsOf(aCategory.getUpdatedAt()))
+                        .putLong(entry + DELETED_AT, microsOf(aCategory.getDeletedAt()))
+                        .put(entry + ACTIVE, (byte) (aCategory.isActive() ? 1 : 0));
+                heapOffset = putString(out, entry + NAME, (int) heap, heapOffset, row.name());
+                heapOffset = putString(out, entry + DESCRIPTION, (int) heap, heapOffset, row.description());
+                out.putInt(positions + row.rank() * Integer.BYTES, index);
+            }
+            out.force();
+        }
+        Files.move(temp, aPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public Instant takenAt() {
+        return this.takenAt;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public Optional<Category> findById(final CategoryID anId) {
+        final var index = indexOf(anId);
+        return index < 0 ? Optional.empty() : Optional.of(categoryAt(index));
+    }
+
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        final var index = indexOf(anId);
+        return index < 0
+                ? Optional.empty()
+                : Optional.of(instantOf(this.buffer.getLong(HEADER_SIZE + index * ENTRY_SIZE + UPDATED_AT)));
+    }
+
+    public List<Category> byName(final long anOffset, final int aLimit, final boolean ascending) {
+        if (anOffset >= this.size || aLimit <= 0) {
+            return List.of();
+        }
+        final var from = (int) anOffset;
+        final var positions = HEADER_SIZE + this.size * ENTRY_SIZE;
+        return IntStream.range(from, (int) Math.min(this.size, anOffset + aLimit))
+                .map(rank -> ascending ? rank : this.size - 1 - rank)
+                .mapToObj(rank -> categoryAt(this.buffer.getInt(positions + rank * Integer.BYTES)))
+                .toList();
+    }
+
+    private int indexOf(final CategoryID anId) {
+        if (!UuidBinaryType.isUuid(anId.getValue())) {
+            return -1;
+        }
+        final var uuid = UUID.fromString(anId.getValue());
+        int low = 0;
+        int high = this.size - 1;
+        while (low <= high) {
+            final var middle = (low + high) >>> 1;
+            final var entry = HEADER_SIZE + middle * ENTRY_SIZE;
+            var comparison = Long.compareUnsigned(this.buffer.getLong(entry + MSB), uuid.getMostSignificantBits());
+            if (comparison == 0) {
+                comparison = Long.compareUnsigned(this.buffer.getLong(entry + LSB), uuid.getLeastSignificantBits());
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private Category categoryAt(final int anIndex) {
+        final var entry = HEADER_SIZE + anIndex * ENTRY_SIZE;
+        return Category.with(
+                CategoryID.from(new UUID(this.buffer.getLong(entry + MSB), this.buffer.getLong(entry + LSB)).toString()),
+                stringAt(entry + NAME),
+                stringAt(entry + DESCRIPTION),
+                this.buffer.get(entry + ACTIVE) == 1,
+                instantOf(this.buffer.getLong(entry + CREATED_AT)),
+                instantOf(this.buffer.getLong(entry + UPDATED_AT)),
+                instantOf(this.buffer.getLong(entry + DELETED_AT)));
+    }
+
+    private String stringAt(final int aSlot) {
+        final var length = this.buffer.getInt(aSlot + Integer.BYTES);
+        if (length == NULL_STRING) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        this.buffer.get(this.heap + this.buffer.getInt(aSlot), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int putString(final ByteBuffer out, final int aSlot, final int aHeap, final int anOffset,
+                                 final byte[] aValue) {
+        out.putInt(aSlot, anOffset).putInt(aSlot + Integer.BYTES, aValue == null ? NULL_STRING : aValue.length);
+        if (aValue == null) {
+            return anOffset;
+        }
+        out.put(aHeap + anOffset, aValue);
+        return anOffset + aValue.length;
+    }
+
+    private static byte[] bytesOf(final String aValue) {
+        return aValue == null ? null : aValue.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int lengthOf(final byte[] aValue) {
+        return aValue == null ? 0 : aValue.length;
+    }
+
+    private static long microsOf(final Instant anInstant) {
+        return anInstant == null ? NULL_INSTANT : ChronoUnit.MICROS.between(Instant.EPOCH, anInstant);
+    }
+
+    private static Instant instantOf(final long micros) {
+        return micros == NULL_INSTANT ? null : Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    private record Row(long msb, long lsb, int rank, Category category, byte[] name, byte[] description) {
+
+        // Unsigned, so the entries follow the byte order of the BINARY(16) primary key.
+        private static final Comparator<Row> BY_ID = Comparator.<Row, Long>comparing(Row::msb, Long::compareUnsigned)
+                .thenComparing(Row::lsb, Long::compareUnsigned);
+
+        private static Row of(final Category aCategory, final int aRank) {
+            final var uuid = UUID.fromString(aCategory.getId().getValue());
+            return new Row(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), aRank, aCategory,
+                    bytesOf(aCategory.getName()), bytesOf(aCategory.getDescription()));
+        }
+
+    }
+
+}
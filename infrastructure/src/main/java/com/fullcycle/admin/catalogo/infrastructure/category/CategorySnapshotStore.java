@@ -0,0 +1,131 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryChangeLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryScanner;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+// Maps the last snapshot on startup and rewrites it periodically from the database.
+public class CategorySnapshotStore implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategorySnapshotStore.class);
+
+    static final int SCAN_BATCH_SIZE = 10_000;
+
+    // Margin for clock skew between nodes, since updated_at and changed_at come from each writer's clock.
+    static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final CategoryScanner scanner;
+    private final CategoryChangeLog changeLog;
+    private final SnapshotCategoryGateway gateway;
+    private final Path path;
+    private final Duration writeInterval;
+    private final Duration serveFor;
+    private final Duration maxAge;
+    private final Clock clock;
+    private ScheduledExecutorService scheduler;
+
+    public CategorySnapshotStore(final CategoryScanner scanner, final CategoryChangeLog changeLog,
+                                 final SnapshotCategoryGateway gateway, final Path path,
+                                 final Duration writeInterval, final Duration serveFor, final Duration maxAge,
+                                 final Clock clock) {
+        this.scanner = requireNonNull(scanner);
+        this.changeLog = requireNonNull(changeLog);
+        this.gateway = requireNonNull(gateway);
+        this.path = requireNonNull(path);
+        this.writeInterval = requireNonNull(writeInterval);
+        this.serveFor = requireNonNull(serveFor);
+        this.maxAge = requireNonNull(maxAge);
+        this.clock = requireNonNull(clock);
+    }
+
+    // Loading runs synchronously so the first requests already find the snapshot; writes run in the background.
+    public synchronized void start() {
+        if (this.scheduler != null) {
+            return;
+        }
+        load();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::writeSafely, this.writeInterval.toMillis(),
+                this.writeInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+            this.scheduler = null;
+        }
+    }
+
+    // Deletes leave no updated_at behind, so they are caught up from the change log; a snapshot older than
+    // the change log retention could miss some and is ignored.
+    void load() {
+        try {
+            if (!Files.exists(this.path)) {
+                this.gateway.retire();
+                return;
+            }
+            final var snapshot = CategorySnapshot.open(this.path);
+            final var now = this.clock.instant();
+            if (snapshot.takenAt().isBefore(now.minus(this.maxAge))) {
+                LOG.info("Ignoring category snapshot taken at {}, older than {}", snapshot.takenAt(), this.maxAge);
+                this.gateway.retire();
+                return;
+            }
+
+            final var changed = new HashSet<CategoryID>();
+            changed.addAll(this.scanner.idsUpdatedAfter(snapshot.takenAt()));
+            changed.addAll(this.changeLog.changedAfter(snapshot.takenAt()));
+            this.gateway.serve(snapshot, changed, now.plus(this.serveFor));
+            LOG.info("Serving {} categories from the snapshot taken at {}, {} changed since",
+                    snapshot.size(), snapshot.takenAt(), changed.size());
+        } catch (final IOException | RuntimeException ex) {
+            LOG.warn("Failed to load the category snapshot from {}", this.path, ex);
+            this.gateway.retire();
+        }
+    }
+
+    // Holds one copy of the table on the heap while writing, since the name order is only known once all
+    // rows were read.
+    void write() {
+        final var takenAt = this.clock.instant().minus(CLOCK_SKEW);
+        final var categories = new ArrayList<Category>();
+        this.scanner.forEachByName(SCAN_BATCH_SIZE, categories::add);
+        try {
+            Files.createDirectories(this.path.toAbsolutePath().getParent());
+            CategorySnapshot.write(this.path, takenAt, categories);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeSafely() {
+        try {
+            write();
+        } catch (final RuntimeException ex) {
+            LOG.warn("Failed to write the category snapshot to {}, retrying in {}", this.path, this.writeInterval, ex);
+        }
+    }
+
+}
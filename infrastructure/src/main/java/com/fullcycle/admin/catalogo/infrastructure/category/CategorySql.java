@@ -0,0 +1,164 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.pagination.Cursor;
+import com.fullcycle.catalogo.domain.validation.Error;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Page and count statements with named parameters, shared by the JDBC and R2DBC gateways.
+// Each driver binds timestamps its own way, so the gateway passes in how an Instant becomes a parameter.
+final class CategorySql {
+
+    static final String COLUMNS = "id, name, description, active, created_at, updated_at, deleted_at";
+
+    private static final String LIKE = "(UPPER(name) LIKE :terms OR UPPER(description) LIKE :terms)";
+
+    private static final String MATCH = "MATCH(name, description) AGAINST (:terms IN BOOLEAN MODE)";
+
+    private static final Map<String, String> COLUMN_BY_SORT = Map.of(
+            "id", "id",
+            "name", "name",
+            "description", "description",
+            "active", "active",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "deletedAt", "deleted_at");
+
+    private final CategorySearchStrategy searchStrategy;
+    private final Function<Instant, Object> instantParam;
+    private final Map<SqlKey, String> selects = new ConcurrentHashMap<>();
+    private final Map<SearchKind, String> counts = new ConcurrentHashMap<>();
+
+    CategorySql(final CategorySearchStrategy searchStrategy, final Function<Instant, Object> instantParam) {
+        this.searchStrategy = searchStrategy;
+        this.instantParam = instantParam;
+    }
+
+    Search searchOf(final String terms) {
+        if (terms == null || terms.isBlank()) {
+            return new Search(SearchKind.NONE, Map.of());
+        }
+        if (this.searchStrategy == CategorySearchStrategy.FULLTEXT) {
+            final var booleanQuery = CategorySearchStrategy.booleanQuery(terms);
+            if (booleanQuery.isPresent()) {
+                return new Search(SearchKind.FULLTEXT, Map.<String, Object>of("terms", booleanQuery.get()));
+            }
+        }
+        return new Search(SearchKind.LIKE, Map.<String, Object>of("terms", "%" + terms.toUpperCase() + "%"));
+    }
+
+    // One row more than the page is read, so the caller can tell whether there is a next page.
+    Statement select(final CategorySearchQuery aQuery, final Set<CategoryField> fields, final Search search) {
+        final var column = columnOf(aQuery.sort());
+        final var ascending = Sort.Direction.fromString(aQuery.direction()).isAscending();
+        final var aCursor = aQuery.isKeyset() ? CategoryCursors.decode(aQuery) : null;
+
+        final var sql = this.selects.computeIfAbsent(
+                new SqlKey(column, ascending, search.kind(), aCursor != null, fields), CategorySql::select);
+
+        final var params = new LinkedHashMap<>(search.params());
+        if (aCursor != null) {
+            params.put("key", keyParamOf(aCursor));
+            params.put("cursorId", UuidBinaryType.toBytes(aCursor.id()));
+        }
+        params.put("limit", aQuery.perPage() + 1);
+        params.put("offset", aCursor != null ? 0L : (long) aQuery.page() * aQuery.perPage());
+        return new Statement(sql, params);
+    }
+
+    Statement count(final Search search) {
+        return new Statement(this.counts.computeIfAbsent(search.kind(), CategorySql::count), search.params());
+    }
+
+    private Object keyParamOf(final Cursor aCursor) {
+        final var aKey = CategoryCursors.keyOf(aCursor);
+        if (aKey instanceof Instant anInstant) {
+            return this.instantParam.apply(anInstant);
+        }
+        return CategoryCursors.ID.equals(aCursor.sort()) ? UuidBinaryType.toBytes((String) aKey) : aKey;
+    }
+
+    private static String select(final SqlKey aKey) {
+        final var sql = new StringBuilder("SELECT ").append(columnsOf(aKey.fields())).append(" FROM category");
+        final var conditions = new ArrayList<String>();
+        whereOf(aKey.search()).ifPresent(conditions::add);
+        if (aKey.keyset()) {
+            final var operator = aKey.ascending() ? ">" : "<";
+            conditions.add("(%1$s %2$s :key OR (%1$s = :key AND id %2$s :cursorId))"
+                    .formatted(aKey.column(), operator));
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+
+        final var direction = aKey.ascending() ? " ASC" : " DESC";
+        sql.append(" ORDER BY ").append(aKey.column()).append(direction);
+        if (!CategoryCursors.ID.equals(aKey.column())) {
+            sql.append(", id").append(direction);
+        }
+        return sql.append(" LIMIT :limit OFFSET :offset").toString();
+    }
+
+    // Fields left out are selected as NULL, which keeps the row mappers positional.
+    private static String columnsOf(final Set<CategoryField> fields) {
+        if (fields.containsAll(CategoryField.ALL)) {
+            return COLUMNS;
+        }
+        return Arrays.stream(CategoryField.values())
+                .map(field -> fields.contains(field) ? COLUMN_BY_SORT.get(field.fieldName()) : "NULL")
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String count(final SearchKind aKind) {
+        return whereOf(aKind)
+                .map(where -> "SELECT COUNT(*) FROM category WHERE " + where)
+                .orElse("SELECT COUNT(*) FROM category");
+    }
+
+    private static Optional<String> whereOf(final SearchKind aKind) {
+        return switch (aKind) {
+            case NONE -> Optional.empty();
+            case LIKE -> Optional.of(LIKE);
+            case FULLTEXT -> Optional.of(MATCH);
+        };
+    }
+
+    private static String columnOf(final String aSort) {
+        final var column = COLUMN_BY_SORT.get(aSort);
+        if (column == null) {
+            throw DomainException.with(new Error("'sort' is not supported: '%s'".formatted(aSort)));
+        }
+        return column;
+    }
+
+    enum SearchKind {
+        NONE,
+        LIKE,
+        FULLTEXT
+    }
+
+    record Search(SearchKind kind, Map<String, Object> params) {
+    }
+
+    record Statement(String sql, Map<String, Object> params) {
+    }
+
+    private record SqlKey(String column, boolean ascending, SearchKind search, boolean keyset,
+                          Set<CategoryField> fields) {
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Owned by the gateway that counts through it, which closes it with the application context.
+class CategoryTotalCache implements AutoCloseable {
+
+    private final Map<String, Entry> totals = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Duration refreshAfter;
+    private final int maxEntries;
+    private final ExecutorService executor;
+
+    CategoryTotalCache(final Duration refreshAfter, final int maxEntries) {
+        this.refreshAfter = refreshAfter;
+        this.maxEntries = maxEntries;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(maxEntries),
+                runnable -> {
+                    final var thread = new Thread(runnable, "category-total-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    Total get(final String aKey, final LongSupplier counter) {
+        final var cached = this.totals.get(aKey);
+        if (cached == null) {
+            return store(aKey, counter.getAsLong());
+        }
+
+        if (cached.isOlderThan(this.refreshAfter) && this.refreshing.add(aKey)) {
+            refresh(aKey, counter);
+        }
+        return new Total(cached.total(), true);
+    }
+
+    // For callers that must not block: the counter only starts a count, and a stale entry is refreshed
+    // when that count completes instead of on the refresh thread.
+    CompletableFuture<Total> getAsync(final String aKey, final Supplier<CompletableFuture<Long>> counter) {
+        final var cached = this.totals.get(aKey);
+        if (cached == null) {
+            return counter.get().thenApply(total -> store(aKey, total));
+        }
+
+        if (cached.isOlderThan(this.refreshAfter) && !this.executor.isShutdown() && this.refreshing.add(aKey)) {
+            refreshAsync(aKey, counter);
+        }
+        return CompletableFuture.completedFuture(new Total(cached.total(), true));
+    }
+
+    // Refreshes already queued are dropped; stale totals are then served until the context is gone.
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    private Total store(final String aKey, final long total) {
+        if (this.totals.size() < this.maxEntries) {
+            this.totals.putIfAbsent(aKey, new Entry(total, Instant.now()));
+        }
+        return new Total(total, false);
+    }
+
+    private void refresh(final String aKey, final LongSupplier counter) {
+        try {
+            this.executor.execute(() -> {
+                try {
+                    this.totals.put(aKey, new Entry(counter.getAsLong(), Instant.now()));
+                } finally {
+                    this.refreshing.remove(aKey);
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            this.refreshing.remove(aKey);
+        }
+    }
+
+    private void refreshAsync(final String aKey, final Supplier<CompletableFuture<Long>> counter) {
+        try {
+            counter.get().whenComplete((total, error) -> {
+                if (error == null) {
+                    this.totals.put(aKey, new Entry(total, Instant.now()));
+                }
+                this.refreshing.remove(aKey);
+            });
+        } catch (final RuntimeException ex) {
+            this.refreshing.remove(aKey);
+            throw ex;
+        }
+    }
+
+    record Total(long value, boolean approximate) {
+    }
+
+    private record Entry(long total, Instant computedAt) {
+
+        boolean isOlderThan(final Duration anAge) {
+            return computedAt.plus(anAge).isBefore(Instant.now());
+        }
+
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.application.Deadline;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+// Caps the calls in flight to the database gateway. With virtual threads the request threads no longer bound
+// how many callers wait on the pool, so the waiting happens here, in FIFO order and with the pool's timeout,
+// instead of every caller spinning up a Hikari wait of its own.
+public class ConcurrencyLimitedCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final Semaphore permits;
+    private final int maxConcurrentCalls;
+    private final Duration acquireTimeout;
+
+    public ConcurrencyLimitedCategoryGateway(final CategoryGateway delegate, final int maxConcurrentCalls,
+                                             final Duration acquireTimeout) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("'maxConcurrentCalls' must be greater than zero");
+        }
+        this.delegate = requireNonNull(delegate);
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.acquireTimeout = requireNonNull(acquireTimeout);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return limited(() -> this.delegate.create(aCategory));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        return limited(() -> this.delegate.createAll(aCategories));
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        limited(() -> {
+            this.delegate.deleteById(anId);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return limited(() -> this.delegate.findById(anId));
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        return limited(() -> this.delegate.findUpdatedAtById(anId));
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        return limited(() -> this.delegate.findAllByIds(anIds));
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return limited(() -> this.delegate.update(aCategory));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return limited(() -> this.delegate.findAll(aQuery));
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return limited(() -> this.delegate.findAllSummaries(aQuery));
+    }
+
+    // Holds one permit for the whole export, as it holds one connection for the whole cursor.
+    @Override
+    public long forEachBatch(final int aBatchSize, final Consumer<List<CategorySummary>> aConsumer) {
+        return limited(() -> this.delegate.forEachBatch(aBatchSize, aConsumer));
+    }
+
+    public int inFlight() {
+        return this.maxConcurrentCalls - this.permits.availablePermits();
+    }
+
+    public int waiting() {
+        return this.permits.getQueueLength();
+    }
+
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("category.gateway.calls.in.flight", this, ConcurrencyLimitedCategoryGateway::inFlight)
+                .description("Category gateway calls holding a permit")
+                .register(registry);
+        Gauge.builder("category.gateway.calls.waiting", this, ConcurrencyLimitedCategoryGateway::waiting)
+                .description("Category gateway calls waiting for a permit")
+                .register(registry);
+    }
+
+    // Waits no longer than the caller's deadline, when it has one.
+    private <T> T limited(final Supplier<T> aCall) {
+        final var timeout = Deadline.current()
+                .map(Deadline::remaining)
+                .filter(remaining -> remaining.compareTo(this.acquireTimeout) < 0)
+                .orElse(this.acquireTimeout);
+        try {
+            if (!this.permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new CannotGetJdbcConnectionException("Timed out after %dms waiting for one of the %d permits"
+                        .formatted(timeout.toMillis(), this.maxConcurrentCalls));
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CannotGetJdbcConnectionException("Interrupted while waiting for a category gateway permit");
+        }
+        try {
+            return aCall.get();
+        } finally {
+            this.permits.release();
+        }
+    }
+
+}
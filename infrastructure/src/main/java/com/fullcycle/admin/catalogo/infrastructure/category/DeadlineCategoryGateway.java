@@ -0,0 +1,106 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.application.Deadline;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+// Turns the caller's Deadline into a transaction timeout, which Spring applies as the statement timeout of
+// every JDBC and Hibernate query in it, so a slow query is aborted by MySQL instead of outliving its caller.
+// Spring timeouts have a granularity of seconds, so the remaining time is rounded up.
+public class DeadlineCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final PlatformTransactionManager transactionManager;
+
+    public DeadlineCategoryGateway(final CategoryGateway delegate,
+                                   final PlatformTransactionManager transactionManager) {
+        this.delegate = requireNonNull(delegate);
+        this.transactionManager = requireNonNull(transactionManager);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return withDeadline(false, () -> this.delegate.create(aCategory));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        return withDeadline(false, () -> this.delegate.createAll(aCategories));
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        withDeadline(false, () -> {
+            this.delegate.deleteById(anId);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return withDeadline(true, () -> this.delegate.findById(anId));
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        return withDeadline(true, () -> this.delegate.findUpdatedAtById(anId));
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        return withDeadline(true, () -> this.delegate.findAllByIds(anIds));
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return withDeadline(false, () -> this.delegate.update(aCategory));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return withDeadline(true, () -> this.delegate.findAll(aQuery));
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return withDeadline(true, () -> this.delegate.findAllSummaries(aQuery));
+    }
+
+    @Override
+    public long forEachBatch(final int aBatchSize, final Consumer<List<CategorySummary>> aConsumer) {
+        return withDeadline(true, () -> this.delegate.forEachBatch(aBatchSize, aConsumer));
+    }
+
+    // The outer transaction decides where the connection comes from, so reads keep readOnly for the replica.
+    private <T> T withDeadline(final boolean readOnly, final Supplier<T> aCall) {
+        final var aDeadline = Deadline.current();
+        if (aDeadline.isEmpty()) {
+            return aCall.get();
+        }
+        if (aDeadline.get().isExpired()) {
+            throw new TransactionTimedOutException("Deadline exceeded before calling the category gateway");
+        }
+        final var remainingMillis = aDeadline.get().remaining().toMillis();
+        final var aTemplate = new TransactionTemplate(this.transactionManager);
+        aTemplate.setReadOnly(readOnly);
+        aTemplate.setTimeout((int) Math.max(1, Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000)));
+        return aTemplate.execute(status -> aCall.get());
+    }
+
+}
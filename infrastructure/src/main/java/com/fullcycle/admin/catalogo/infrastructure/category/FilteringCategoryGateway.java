@@ -0,0 +1,112 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+// Ids created on other nodes reach the filter through the change poller, so a miss is only trusted for ids
+// whose UUIDv7 timestamp is older than what the poller has settled; newer ones still go to the database.
+// Ids that are not time-ordered were created before the filter existed and are read by its rebuild.
+public class FilteringCategoryGateway implements CategoryGateway {
+
+    private static final int TIME_ORDERED = 7;
+
+    private final CategoryGateway delegate;
+    private final CategoryIdFilter filter;
+    private final Supplier<Instant> settledUntil;
+
+    public FilteringCategoryGateway(final CategoryGateway delegate, final CategoryIdFilter filter,
+                                    final Supplier<Instant> settledUntil) {
+        this.delegate = requireNonNull(delegate);
+        this.filter = requireNonNull(filter);
+        this.settledUntil = requireNonNull(settledUntil);
+    }
+
+    // Ids go into the filter before the insert so they are never reported missing once committed, and again
+    // after it in case a rebuild started in between and did not see the row yet.
+    @Override
+    public Category create(final Category aCategory) {
+        this.filter.putAll(List.of(aCategory.getId()));
+        final var created = this.delegate.create(aCategory);
+        this.filter.putAll(List.of(created.getId()));
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        this.filter.putAll(aCategories.stream().map(Category::getId).toList());
+        final var created = this.delegate.createAll(aCategories);
+        this.filter.putAll(created.stream().map(Category::getId).toList());
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.delegate.deleteById(anId);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return mightExist(anId) ? this.delegate.findById(anId) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        return mightExist(anId) ? this.delegate.findUpdatedAtById(anId) : Optional.empty();
+    }
+
+    // Only the ids that might exist reach the database; when none does there is no query at all.
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        final var candidates = anIds.stream().filter(this::mightExist).toList();
+        return candidates.isEmpty() ? List.of() : this.delegate.findAllByIds(candidates);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return this.delegate.update(aCategory);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return this.delegate.findAllSummaries(aQuery);
+    }
+
+    @Override
+    public long forEachBatch(final int aBatchSize, final Consumer<List<CategorySummary>> aConsumer) {
+        return this.delegate.forEachBatch(aBatchSize, aConsumer);
+    }
+
+    private boolean mightExist(final CategoryID anId) {
+        return this.filter.mightContain(anId) || isUnsettled(anId);
+    }
+
+    private boolean isUnsettled(final CategoryID anId) {
+        if (!UuidBinaryType.isUuid(anId.getValue())) {
+            return false;
+        }
+        final var uuid = UUID.fromString(anId.getValue());
+        return uuid.version() == TIME_ORDERED
+                && !Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16).isBefore(this.settledUntil.get());
+    }
+
+}
@@ -0,0 +1,192 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import org.springframework.data.domain.Sort;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+// Answers reads from the snapshot mapped at startup while the caches above it warm up. Ids written since the
+// snapshot was taken always go to the delegate; listings only come from the snapshot while nothing changed.
+public class SnapshotCategoryGateway implements CategoryGateway {
+
+    private static final String NAME = "name";
+
+    private final CategoryGateway delegate;
+    private final Clock clock;
+    private final Set<CategoryID> changed = ConcurrentHashMap.newKeySet();
+    private volatile Serving serving;
+    private volatile boolean retired;
+
+    public SnapshotCategoryGateway(final CategoryGateway delegate, final Clock clock) {
+        this.delegate = requireNonNull(delegate);
+        this.clock = requireNonNull(clock);
+    }
+
+    public void serve(final CategorySnapshot aSnapshot, final Collection<CategoryID> changedSince,
+                      final Instant anUntil) {
+        this.changed.addAll(changedSince);
+        this.serving = new Serving(requireNonNull(aSnapshot), requireNonNull(anUntil));
+    }
+
+    // Drops the snapshot so its mapping can be released; ids are no longer tracked from then on.
+    public void retire() {
+        this.retired = true;
+        this.serving = null;
+        this.changed.clear();
+    }
+
+    // Writes made by other nodes, as reported by the change log.
+    public void changed(final Collection<CategoryID> anIds) {
+        if (!this.retired) {
+            this.changed.addAll(anIds);
+        }
+    }
+
+    public boolean isServing() {
+        return snapshot() != null;
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        changed(List.of(aCategory.getId()));
+        return this.delegate.create(aCategory);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        changed(aCategories.stream().map(Category::getId).toList());
+        return this.delegate.createAll(aCategories);
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        changed(List.of(anId));
+        this.delegate.deleteById(anId);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        final var snapshot = snapshot();
+        return snapshot != null && !this.changed.contains(anId)
+                ? snapshot.findById(anId)
+                : this.delegate.findById(anId);
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        final var snapshot = snapshot();
+        return snapshot != null && !this.changed.contains(anId)
+                ? snapshot.findUpdatedAtById(anId)
+                : this.delegate.findUpdatedAtById(anId);
+    }
+
+    // Ids the snapshot can still answer are read from it and only the rest go to the delegate, in one call.
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        final var snapshot = snapshot();
+        if (snapshot == null) {
+            return this.delegate.findAllByIds(anIds);
+        }
+        final var found = new ArrayList<Category>(anIds.size());
+        final var missing = new ArrayList<CategoryID>();
+        for (final var anId : anIds) {
+            if (this.changed.contains(anId)) {
+                missing.add(anId);
+            } else {
+                snapshot.findById(anId).ifPresent(found::add);
+            }
+        }
+        if (!missing.isEmpty()) {
+            found.addAll(this.delegate.findAllByIds(missing));
+        }
+        return CategoryIds.inRequestOrder(anIds, found);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        changed(List.of(aCategory.getId()));
+        return this.delegate.update(aCategory);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return page(aQuery, Function.identity()).orElseGet(() -> this.delegate.findAll(aQuery));
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return page(aQuery, CategorySummary::from).orElseGet(() -> this.delegate.findAllSummaries(aQuery));
+    }
+
+    @Override
+    public long forEachBatch(final int aBatchSize, final Consumer<List<CategorySummary>> aConsumer) {
+        return this.delegate.forEachBatch(aBatchSize, aConsumer);
+    }
+
+    // Only unfiltered offset pages by name: the snapshot keeps no other order and cannot evaluate searches.
+    private <T> Optional<Pagination<T>> page(final CategorySearchQuery aQuery, final Function<Category, T> aMapper) {
+        final var snapshot = snapshot();
+        if (snapshot == null || !this.changed.isEmpty() || !NAME.equals(aQuery.sort()) || aQuery.isKeyset()
+                || (aQuery.terms() != null && !aQuery.terms().isBlank()) || aQuery.page() < 0 || aQuery.perPage() <= 0) {
+            return Optional.empty();
+        }
+        final var direction = Sort.Direction.fromOptionalString(aQuery.direction());
+        if (direction.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final var rows = snapshot.byName((long) aQuery.page() * aQuery.perPage(), aQuery.perPage() + 1,
+                direction.get().isAscending());
+        final var hasNext = rows.size() > aQuery.perPage();
+        final var items = hasNext ? rows.subList(0, aQuery.perPage()) : rows;
+        final var last = items.isEmpty() ? null : items.get(items.size() - 1);
+        final var nextCursor = hasNext && last != null
+                ? CategoryCursors.encode(aQuery.sort(), last.getId().getValue(), last.getName(), last.getCreatedAt(),
+                last.getUpdatedAt())
+                : null;
+        final var total = switch (aQuery.total()) {
+            case EXACT, APPROXIMATE -> snapshot.size();
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
+
+        return Optional.of(new Pagination<>(aQuery.page(),
+                aQuery.perPage(),
+                total,
+                items.stream().map(aMapper).toList(),
+                nextCursor,
+                hasNext,
+                false));
+    }
+
+    private CategorySnapshot snapshot() {
+        final var current = this.serving;
+        if (current == null) {
+            return null;
+        }
+        if (!this.clock.instant().isBefore(current.until())) {
+            retire();
+            return null;
+        }
+        return current.snapshot();
+    }
+
+    private record Serving(CategorySnapshot snapshot, Instant until) {
+    }
+
+}
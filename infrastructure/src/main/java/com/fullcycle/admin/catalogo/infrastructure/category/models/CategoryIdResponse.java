@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+public record CategoryIdResponse(
+        String id
+) {
+}
@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoryFailure;
+import com.fullcycle.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record CategoryImportErrorResponse(
+        long line,
+        List<String> errors
+) {
+
+    public static CategoryImportErrorResponse from(final ImportCategoryFailure aFailure) {
+        return new CategoryImportErrorResponse(aFailure.line(),
+                aFailure.notification().getErrors().stream().map(Error::message).toList());
+    }
+
+}
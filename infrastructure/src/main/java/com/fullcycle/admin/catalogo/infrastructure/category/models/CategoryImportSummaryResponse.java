@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesOutput;
+
+public record CategoryImportSummaryResponse(
+        long imported,
+        long failed,
+        long elapsedMillis,
+        double rowsPerSecond
+) {
+
+    public static CategoryImportSummaryResponse from(final ImportCategoriesOutput anOutput) {
+        return new CategoryImportSummaryResponse(anOutput.imported(),
+                anOutput.failed(),
+                anOutput.elapsed().toMillis(),
+                anOutput.rowsPerSecond());
+    }
+
+}
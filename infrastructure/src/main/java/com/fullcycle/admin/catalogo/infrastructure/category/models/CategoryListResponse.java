@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+
+import java.time.Instant;
+
+public record CategoryListResponse(
+        String id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+
+    public static CategoryListResponse from(final CategoryListOutput anOutput) {
+        return new CategoryListResponse(anOutput.id().getValue(),
+                anOutput.name(),
+                anOutput.description(),
+                anOutput.isActive(),
+                anOutput.createdAt(),
+                anOutput.updatedAt(),
+                anOutput.deletedAt());
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+
+import java.time.Instant;
+
+public record CategoryResponse(
+        String id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+
+    public static CategoryResponse from(final CategoryOutput anOutput) {
+        return new CategoryResponse(anOutput.id().getValue(),
+                anOutput.name(),
+                anOutput.description(),
+                anOutput.isActive(),
+                anOutput.createdAt(),
+                anOutput.updatedAt(),
+                anOutput.deletedAt());
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public record CreateCategoryBatchItemResponse(
+        int index,
+        String id,
+        List<String> errors
+) {
+
+    public static CreateCategoryBatchItemResponse from(final int anIndex,
+                                                       final Either<Notification, CreateCategoryOutput> aResult) {
+        return aResult.fold(
+                notification -> new CreateCategoryBatchItemResponse(anIndex, null,
+                        notification.getErrors().stream().map(Error::message).toList()),
+                output -> new CreateCategoryBatchItemResponse(anIndex, output.id().getValue(), List.of()));
+    }
+
+}
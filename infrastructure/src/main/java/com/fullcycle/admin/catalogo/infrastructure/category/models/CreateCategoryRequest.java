@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+public record CreateCategoryRequest(
+        String name,
+        String description,
+        Boolean active
+) {
+
+    public boolean isActive() {
+        return active == null || active;
+    }
+
+}
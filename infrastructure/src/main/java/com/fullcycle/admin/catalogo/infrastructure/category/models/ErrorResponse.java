@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fullcycle.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record ErrorResponse(
+        List<String> errors
+) {
+
+    public static ErrorResponse from(final List<Error> anErrors) {
+        return new ErrorResponse(anErrors.stream().map(Error::message).toList());
+    }
+
+}
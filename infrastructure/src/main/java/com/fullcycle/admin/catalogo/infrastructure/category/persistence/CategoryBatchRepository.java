@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import java.util.List;
+
+public interface CategoryBatchRepository {
+
+    List<CategoryJpaEntity> insertAll(List<CategoryJpaEntity> entities);
+
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+public class CategoryBatchRepositoryImpl implements CategoryBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public List<CategoryJpaEntity> insertAll(final List<CategoryJpaEntity> entities) {
+        // persist (instead of save/merge) skips the SELECT issued for assigned ids, so Hibernate
+        // can group the INSERTs into JDBC batches of hibernate.jdbc.batch_size.
+        entities.forEach(this.entityManager::persist);
+        this.entityManager.flush();
+        return entities;
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+public class CategoryChangeLog {
+
+    private static final String INSERT = "INSERT INTO category_changes (category_id, changed_at) VALUES (?, ?)";
+
+    private static final String SELECT_AFTER = """
+            SELECT seq, category_id, changed_at
+              FROM category_changes
+             WHERE seq > ?
+             ORDER BY seq
+             LIMIT ?
+            """;
+
+    private static final String CHANGED_AFTER = "SELECT DISTINCT category_id FROM category_changes WHERE changed_at > ?";
+
+    private static final String LAST_SEQUENCE = "SELECT COALESCE(MAX(seq), 0) FROM category_changes";
+
+    private static final String PRUNE = "DELETE FROM category_changes WHERE changed_at < ?";
+
+    private static final RowMapper<CategoryChange> CHANGE_MAPPER = (rs, rowNum) -> new CategoryChange(
+            rs.getLong(1),
+            CategoryID.from(UuidBinaryType.fromBytes(rs.getBytes(2))),
+            rs.getTimestamp(3).toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CategoryChangeLog(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Mandatory: the change must commit or roll back together with the write it describes.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(final Collection<CategoryID> anIds) {
+        final var ids = anIds.stream()
+                .map(CategoryID::getValue)
+                .filter(UuidBinaryType::isUuid)
+                .toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        final var changedAt = Timestamp.from(Instant.now());
+        this.jdbcTemplate.batchUpdate(INSERT, ids, ids.size(), (ps, anId) -> {
+            ps.setBytes(1, UuidBinaryType.toBytes(anId));
+            ps.setTimestamp(2, changedAt);
+        });
+    }
+
+    public List<CategoryChange> after(final long aSequence, final int aLimit) {
+        return this.jdbcTemplate.query(SELECT_AFTER, CHANGE_MAPPER, aSequence, aLimit);
+    }
+
+    public List<CategoryID> changedAfter(final Instant anInstant) {
+        return this.jdbcTemplate.query(CHANGED_AFTER,
+                (rs, rowNum) -> CategoryID.from(UuidBinaryType.fromBytes(rs.getBytes(1))),
+                Timestamp.from(anInstant));
+    }
+
+    public long lastSequence() {
+        final var last = this.jdbcTemplate.queryForObject(LAST_SEQUENCE, Long.class);
+        return last == null ? 0 : last;
+    }
+
+    public int prune(final Instant aBefore) {
+        return this.jdbcTemplate.update(PRUNE, Timestamp.from(aBefore));
+    }
+
+    public record CategoryChange(long sequence, CategoryID categoryId, Instant changedAt) {
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+public class CategoryIdReader {
+
+    private static final String FIRST_IDS = "SELECT id FROM category ORDER BY id LIMIT ?";
+
+    private static final String NEXT_IDS = "SELECT id FROM category WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CategoryIdReader(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Walks the primary key in batches, so memory stays flat and no statement holds a long-running cursor.
+    public long forEach(final int aBatchSize, final Consumer<CategoryID> aConsumer) {
+        long count = 0;
+        byte[] last = null;
+        List<byte[]> ids;
+        do {
+            ids = last == null
+                    ? this.jdbcTemplate.query(FIRST_IDS, (rs, rowNum) -> rs.getBytes(1), aBatchSize)
+                    : this.jdbcTemplate.query(NEXT_IDS, (rs, rowNum) -> rs.getBytes(1), last, aBatchSize);
+            for (final var anId : ids) {
+                aConsumer.accept(CategoryID.from(UuidBinaryType.fromBytes(anId)));
+            }
+            count += ids.size();
+            last = ids.isEmpty() ? last : ids.get(ids.size() - 1);
+        } while (ids.size() == aBatchSize);
+        return count;
+    }
+
+}
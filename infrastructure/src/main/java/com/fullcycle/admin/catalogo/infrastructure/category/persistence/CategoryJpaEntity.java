@@ -1,16 +1,21 @@
 package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
 import com.fullcycle.catalogo.domain.category.Category;
 import com.fullcycle.catalogo.domain.category.CategoryID;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.time.Instant;
 
 @Entity
 @Table(name = "category")
-public class CategoryJpaEntity {
+public class CategoryJpaEntity implements Persistable<String> {
 
     @Id
+    @Type(type = UuidBinaryType.NAME)
+    @Column(columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(nullable = false)
@@ -31,6 +36,9 @@ public class CategoryJpaEntity {
     @Column(columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew;
+
     public CategoryJpaEntity() {
     }
 
@@ -55,6 +63,22 @@ public class CategoryJpaEntity {
                 aCategory.getDeletedAt());
     }
 
+    public CategoryJpaEntity asNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
     public Category toAggregate() {
         return Category.with(
                 CategoryID.from(getId()),
@@ -66,6 +90,7 @@ public class CategoryJpaEntity {
                 getDeletedAt());
     }
 
+    @Override
     public String getId() {
         return id;
     }
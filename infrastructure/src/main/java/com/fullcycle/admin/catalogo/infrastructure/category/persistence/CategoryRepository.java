@@ -4,9 +4,42 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import java.time.Instant;
+import java.util.Optional;
+
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, CategorySliceRepository,
+        CategoryBatchRepository {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
+    long count(Specification<CategoryJpaEntity> whereClause);
+
+    @Query("SELECT c.updatedAt FROM CategoryJpaEntity c WHERE c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE CategoryJpaEntity c
+               SET c.name = :name, c.description = :description, c.active = :active,
+                   c.updatedAt = :updatedAt, c.deletedAt = :deletedAt
+             WHERE c.id = :id
+            """)
+    int updateById(@Param("id") String id,
+                   @Param("name") String name,
+                   @Param("description") String description,
+                   @Param("active") boolean active,
+                   @Param("updatedAt") Instant updatedAt,
+                   @Param("deletedAt") Instant deletedAt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CategoryJpaEntity c WHERE c.id = :id")
+    int removeById(@Param("id") String id);
+
 }
@@ -0,0 +1,80 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+public class CategoryScanner {
+
+    private static final String COLUMNS = "id, name, description, active, created_at, updated_at, deleted_at";
+
+    private static final String FIRST_BY_NAME = "SELECT " + COLUMNS + " FROM category ORDER BY name, id LIMIT ?";
+
+    private static final String NEXT_BY_NAME = """
+            SELECT %s
+              FROM category
+             WHERE name > ? OR (name = ? AND id > ?)
+             ORDER BY name, id
+             LIMIT ?
+            """.formatted(COLUMNS);
+
+    private static final String IDS_UPDATED_AFTER = "SELECT id FROM category WHERE updated_at > ?";
+
+    private static final RowMapper<Category> CATEGORY_MAPPER = (rs, rowNum) -> Category.with(
+            CategoryID.from(UuidBinaryType.fromBytes(rs.getBytes(1))),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getBoolean(4),
+            instantOf(rs, 5),
+            instantOf(rs, 6),
+            instantOf(rs, 7));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CategoryScanner(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Keyset over (name, id) in the database collation. A single read-only transaction keeps every batch on
+    // the same consistent view of the table.
+    @Transactional(readOnly = true)
+    public long forEachByName(final int aBatchSize, final Consumer<Category> aConsumer) {
+        long count = 0;
+        Category last = null;
+        List<Category> categories;
+        do {
+            categories = last == null
+                    ? this.jdbcTemplate.query(FIRST_BY_NAME, CATEGORY_MAPPER, aBatchSize)
+                    : this.jdbcTemplate.query(NEXT_BY_NAME, CATEGORY_MAPPER, last.getName(), last.getName(),
+                    UuidBinaryType.toBytes(last.getId().getValue()), aBatchSize);
+            categories.forEach(aConsumer);
+            count += categories.size();
+            last = categories.isEmpty() ? last : categories.get(categories.size() - 1);
+        } while (categories.size() == aBatchSize);
+        return count;
+    }
+
+    public List<CategoryID> idsUpdatedAfter(final Instant anInstant) {
+        return this.jdbcTemplate.query(IDS_UPDATED_AFTER,
+                (rs, rowNum) -> CategoryID.from(UuidBinaryType.fromBytes(rs.getBytes(1))),
+                Timestamp.from(anInstant));
+    }
+
+    private static Instant instantOf(final ResultSet rs, final int column) throws SQLException {
+        final var timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface CategorySliceRepository {
+
+    List<CategoryJpaEntity> findSlice(Specification<CategoryJpaEntity> whereClause, Sort sort, long offset, int limit);
+
+    List<CategorySummary> findSummarySlice(Specification<CategoryJpaEntity> whereClause, Sort sort, long offset,
+                                           int limit, Set<CategoryField> fields);
+
+    Stream<CategorySummary> streamSummaries(Sort sort, int fetchSize);
+
+}
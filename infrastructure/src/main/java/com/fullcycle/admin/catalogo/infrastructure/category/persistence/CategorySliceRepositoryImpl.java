@@ -0,0 +1,137 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.Selection;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+public class CategorySliceRepositoryImpl implements CategorySliceRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CategoryJpaEntity> findSlice(final Specification<CategoryJpaEntity> whereClause,
+                                             final Sort sort, final long offset, final int limit) {
+        final var criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final var query = criteriaBuilder.createQuery(CategoryJpaEntity.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        final var predicate = Specification.where(whereClause).toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(sort, root, criteriaBuilder));
+
+        return this.entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<CategorySummary> findSummarySlice(final Specification<CategoryJpaEntity> whereClause,
+                                                  final Sort sort, final long offset, final int limit,
+                                                  final Set<CategoryField> fields) {
+        if (fields.containsAll(CategoryField.ALL)) {
+            return summaryQuery(whereClause, sort)
+                    .setFirstResult(Math.toIntExact(offset))
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+        return projectionQuery(whereClause, sort, fields)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(CategorySliceRepositoryImpl::summaryOf)
+                .toList();
+    }
+
+    // Projections are not managed entities, so the persistence context stays empty however many rows pass.
+    @Override
+    public Stream<CategorySummary> streamSummaries(final Sort sort, final int fetchSize) {
+        return summaryQuery(null, sort)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream();
+    }
+
+    private TypedQuery<CategorySummary> summaryQuery(final Specification<CategoryJpaEntity> whereClause,
+                                                     final Sort sort) {
+        final var criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final var query = criteriaBuilder.createQuery(CategorySummary.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        query.select(criteriaBuilder.construct(CategorySummary.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("description"),
+                root.get("active"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("deletedAt")));
+
+        final var predicate = Specification.where(whereClause).toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(sort, root, criteriaBuilder));
+
+        return this.entityManager.createQuery(query);
+    }
+
+    // Selects only the columns of the given fields, so a page of ids and names never reads the descriptions.
+    private TypedQuery<Tuple> projectionQuery(final Specification<CategoryJpaEntity> whereClause, final Sort sort,
+                                              final Set<CategoryField> fields) {
+        final var criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final var query = criteriaBuilder.createTupleQuery();
+        final var root = query.from(CategoryJpaEntity.class);
+
+        query.multiselect(fields.stream()
+                .sorted()
+                .<Selection<?>>map(field -> root.get(field.fieldName()).alias(field.fieldName()))
+                .toList());
+
+        final var predicate = Specification.where(whereClause).toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(sort, root, criteriaBuilder));
+
+        return this.entityManager.createQuery(query);
+    }
+
+    private static CategorySummary summaryOf(final Tuple aTuple) {
+        final var active = valueOf(aTuple, CategoryField.ACTIVE, Boolean.class);
+        return new CategorySummary(valueOf(aTuple, CategoryField.ID, String.class),
+                valueOf(aTuple, CategoryField.NAME, String.class),
+                valueOf(aTuple, CategoryField.DESCRIPTION, String.class),
+                active != null && active,
+                valueOf(aTuple, CategoryField.CREATED_AT, Instant.class),
+                valueOf(aTuple, CategoryField.UPDATED_AT, Instant.class),
+                valueOf(aTuple, CategoryField.DELETED_AT, Instant.class));
+    }
+
+    private static <T> T valueOf(final Tuple aTuple, final CategoryField aField, final Class<T> aType) {
+        for (final var element : aTuple.getElements()) {
+            if (aField.fieldName().equals(element.getAlias())) {
+                return aTuple.get(element.getAlias(), aType);
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.api.CategoryFields;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer categoryFieldsCustomizer() {
+        return builder -> builder
+                .mixIn(CategoryResponse.class, CategoryFields.Filtered.class)
+                .mixIn(CategoryListResponse.class, CategoryFields.Filtered.class)
+                .filters(CategoryFields.all());
+    }
+
+}
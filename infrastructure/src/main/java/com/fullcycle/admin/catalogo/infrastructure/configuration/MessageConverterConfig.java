@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fullcycle.admin.catalogo.infrastructure.api.CategoryProtobufHttpMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Binary representations of the category reads. Spring Boot adds these converters to the MVC ones: the CBOR one
+// takes the place of Spring's default, and endpoints list JSON first in produces so it stays the default.
+@Configuration
+public class MessageConverterConfig {
+
+    // Built from Boot's builder so CBOR bodies get the same modules, date format and fields filter as JSON.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(final Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public CategoryProtobufHttpMessageConverter categoryProtobufHttpMessageConverter() {
+        return new CategoryProtobufHttpMessageConverter();
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Dispatches servlet requests and async bodies (export, import) to one virtual thread each instead of the
+// Undertow worker pool, so requests blocked on slow queries no longer hold back the others. The database is
+// still the limit: the category gateway is capped by ConcurrencyLimitedCategoryGateway in this mode.
+// The application is built for Java 17, so the virtual thread executor is looked up at runtime and this mode
+// needs a Java 21 runtime.
+// On JDK 21 a virtual thread blocked inside a synchronized block pins its carrier thread, and Hikari and
+// MySQL Connector/J still block there on JDBC calls. The permit cap defaults to the pool size, so with a
+// pool larger than the core count the JDBC calls can hold every carrier and stall the other requests; keep
+// category.execution.max-concurrent-gateway-calls below the number of cores in that case.
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "category.execution.mode", havingValue = "virtual")
+public class VirtualThreadConfig implements WebMvcConfigurer, AutoCloseable {
+
+    private final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadDispatchCustomizer() {
+        return factory -> factory.addDeploymentInfoCustomizers(deploymentInfo -> deploymentInfo
+                .setExecutor(this.executor)
+                .setAsyncExecutor(this.executor));
+    }
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(this.executor));
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+    }
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final NoSuchMethodException ex) {
+            throw new IllegalStateException("category.execution.mode=virtual needs Java 21 or newer, running on "
+                    + Runtime.version());
+        } catch (final ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Duration readYourWrites;
+    private final Clock clock;
+    private final AtomicLong lastWriteAt = new AtomicLong(Long.MIN_VALUE);
+
+    public ReadWriteRoutingDataSource(final DataSource master, final DataSource replica,
+                                      final Duration readYourWrites, final Clock clock) {
+        this.readYourWrites = readYourWrites;
+        this.clock = clock;
+        setTargetDataSources(Map.of(DataSourceRoute.MASTER, master, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(master);
+    }
+
+    @Override
+    protected DataSourceRoute determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return withinReadYourWritesWindow() ? DataSourceRoute.MASTER : DataSourceRoute.REPLICA;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    lastWriteAt.accumulateAndGet(clock.millis(), Math::max);
+                }
+            });
+        }
+        return DataSourceRoute.MASTER;
+    }
+
+    private boolean withinReadYourWritesWindow() {
+        if (this.readYourWrites.isZero()) {
+            return false;
+        }
+        final var lastWrite = this.lastWriteAt.get();
+        return lastWrite != Long.MIN_VALUE && this.clock.millis() - lastWrite < this.readYourWrites.toMillis();
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.dialect;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import java.util.List;
+
+public class MatchAgainstFunction implements SQLFunction {
+
+    public static final String NAME = "match_against";
+
+    @Override
+    public boolean hasArguments() {
+        return true;
+    }
+
+    @Override
+    public boolean hasParenthesesIfNoArguments() {
+        return false;
+    }
+
+    @Override
+    public Type getReturnType(final Type firstArgumentType, final Mapping mapping) throws QueryException {
+        return StandardBasicTypes.DOUBLE;
+    }
+
+    @Override
+    public String render(final Type firstArgumentType, final List arguments,
+                         final SessionFactoryImplementor factory) throws QueryException {
+        if (arguments.size() < 2) {
+            throw new QueryException("match_against requires at least one column and a search expression");
+        }
+        final var columns = arguments.subList(0, arguments.size() - 1);
+        final var expression = arguments.get(arguments.size() - 1);
+        return "match(%s) against (%s in boolean mode)"
+                .formatted(String.join(", ", columns), expression);
+    }
+
+}
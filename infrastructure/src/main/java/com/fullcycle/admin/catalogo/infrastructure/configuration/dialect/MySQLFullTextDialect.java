@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.dialect;
+
+import org.hibernate.dialect.MySQL5InnoDBDialect;
+
+public class MySQLFullTextDialect extends MySQL5InnoDBDialect {
+
+    public MySQLFullTextDialect() {
+        super();
+        registerFunction(MatchAgainstFunction.NAME, new MatchAgainstFunction());
+    }
+
+}
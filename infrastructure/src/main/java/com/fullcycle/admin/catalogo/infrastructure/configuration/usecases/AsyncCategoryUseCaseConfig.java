@@ -0,0 +1,110 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalogo.application.AsyncExecution;
+import com.fullcycle.admin.catalogo.application.category.create.AsyncCreateCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.AsyncCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultAsyncCreateCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultAsyncCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.AsyncDeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DefaultAsyncDeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultAsyncGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.AsyncListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultAsyncListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.AsyncUpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.DefaultAsyncUpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Reads and writes run on separate pools, so a burst of batch inserts cannot queue the lookups behind it.
+// The executors are kept out of the context on purpose: an Executor bean would replace Spring's
+// applicationTaskExecutor.
+@Configuration
+public class AsyncCategoryUseCaseConfig implements AutoCloseable {
+
+    private final ThreadPoolExecutor readExecutor;
+    private final ThreadPoolExecutor writeExecutor;
+    private final AsyncExecution reads;
+    private final AsyncExecution writes;
+
+    public AsyncCategoryUseCaseConfig(final MeterRegistry meterRegistry,
+                                      @Value("${category.async.reads.pool-size:8}") final int readPoolSize,
+                                      @Value("${category.async.reads.queue-capacity:1000}") final int readQueueCapacity,
+                                      @Value("${category.async.writes.pool-size:4}") final int writePoolSize,
+                                      @Value("${category.async.writes.queue-capacity:100}") final int writeQueueCapacity,
+                                      @Value("${category.async.timeout:5s}") final Duration timeout) {
+        this.readExecutor = executor("category-async-reads", readPoolSize, readQueueCapacity, meterRegistry);
+        this.writeExecutor = executor("category-async-writes", writePoolSize, writeQueueCapacity, meterRegistry);
+        this.reads = new AsyncExecution(this.readExecutor, timeout);
+        this.writes = new AsyncExecution(this.writeExecutor, timeout);
+    }
+
+    @Bean
+    public AsyncCreateCategoryUseCase asyncCreateCategoryUseCase(final CreateCategoryUseCase useCase) {
+        return new DefaultAsyncCreateCategoryUseCase(useCase, this.writes);
+    }
+
+    @Bean
+    public AsyncCreateCategoriesUseCase asyncCreateCategoriesUseCase(final CreateCategoriesUseCase useCase) {
+        return new DefaultAsyncCreateCategoriesUseCase(useCase, this.writes);
+    }
+
+    @Bean
+    public AsyncUpdateCategoryUseCase asyncUpdateCategoryUseCase(final UpdateCategoryUseCase useCase) {
+        return new DefaultAsyncUpdateCategoryUseCase(useCase, this.writes);
+    }
+
+    @Bean
+    public AsyncGetCategoryByIdUseCase asyncGetCategoryByIdUseCase(final GetCategoryByIdUseCase useCase) {
+        return new DefaultAsyncGetCategoryByIdUseCase(useCase, this.reads);
+    }
+
+    @Bean
+    public AsyncListCategoriesUseCase asyncListCategoriesUseCase(final ListCategoriesUseCase useCase) {
+        return new DefaultAsyncListCategoriesUseCase(useCase, this.reads);
+    }
+
+    @Bean
+    public AsyncDeleteCategoryUseCase asyncDeleteCategoryUseCase(final DeleteCategoryUseCase useCase) {
+        return new DefaultAsyncDeleteCategoryUseCase(useCase, this.writes);
+    }
+
+    @Override
+    public void close() {
+        List.of(this.readExecutor, this.writeExecutor).forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    // Fixed size with a bounded queue: once it is full new calls fail fast with RejectedExecutionException.
+    // Queue depth shows up as executor.queued and executor.queue.remaining tagged with the pool name.
+    private static ThreadPoolExecutor executor(final String aName, final int aPoolSize, final int aQueueCapacity,
+                                               final MeterRegistry meterRegistry) {
+        final var counter = new AtomicInteger();
+        final var executor = new ThreadPoolExecutor(aPoolSize, aPoolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(aQueueCapacity),
+                runnable -> {
+                    final var thread = new Thread(runnable, aName + "-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, aName);
+        return executor;
+    }
+
+}
@@ -1,26 +1,148 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoriesByIdsUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryVersionUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryVersionUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.infrastructure.category.CachingCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryChangePoller;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryIdFilter;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategorySnapshotStore;
+import com.fullcycle.admin.catalogo.infrastructure.category.ConcurrencyLimitedCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.DeadlineCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.FilteringCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.SnapshotCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryChangeLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryIdReader;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryScanner;
 import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 @Configuration
-public class CategoryUseCaseConfig {
+public class CategoryUseCaseConfig implements AutoCloseable {
+
+    private static final String VIRTUAL = "virtual";
 
     private final CategoryGateway categoryGateway;
+    private final SnapshotCategoryGateway snapshotGateway;
+    private final CachingCategoryGateway cachingGateway;
+    private final CategoryIdFilter idFilter;
+    private volatile CategoryChangePoller changePoller;
+
+    public CategoryUseCaseConfig(final CategoryGateway categoryGateway,
+                                 final CategoryIdReader idReader,
+                                 final MeterRegistry meterRegistry,
+                                 final PlatformTransactionManager transactionManager,
+                                 @Value("${category.execution.mode:platform}") final String executionMode,
+                                 @Value("${category.execution.max-concurrent-gateway-calls:${spring.datasource.hikari.maximum-pool-size:10}}") final int maxConcurrentGatewayCalls,
+                                 @Value("${category.execution.permit-timeout:${spring.datasource.hikari.connection-timeout:30000}}") final Duration permitTimeout,
+                                 @Value("${category.snapshot.enabled:false}") final boolean snapshotEnabled,
+                                 @Value("${category.cache.enabled:false}") final boolean cacheEnabled,
+                                 @Value("${category.cache.maximum-size:10000}") final long maximumSize,
+                                 @Value("${category.cache.expire-after-write:5m}") final Duration expireAfterWrite,
+                                 @Value("${category.cache.pages.maximum-size:1000}") final long pagesMaximumSize,
+                                 @Value("${category.cache.pages.expire-after-write:1m}") final Duration pagesExpireAfterWrite,
+                                 @Value("${category.id-filter.enabled:false}") final boolean idFilterEnabled,
+                                 @Value("${category.id-filter.expected-insertions:1000000}") final long expectedInsertions,
+                                 @Value("${category.id-filter.false-positive-rate:0.01}") final double falsePositiveRate,
+                                 @Value("${category.id-filter.rebuild-interval:1h}") final Duration rebuildInterval) {
+        CategoryGateway aGateway = new DeadlineCategoryGateway(categoryGateway, transactionManager);
+        if (VIRTUAL.equalsIgnoreCase(executionMode)) {
+            final var limitedGateway = new ConcurrencyLimitedCategoryGateway(aGateway, maxConcurrentGatewayCalls,
+                    permitTimeout);
+            limitedGateway.bindTo(meterRegistry);
+            aGateway = limitedGateway;
+        }
+        if (snapshotEnabled) {
+            this.snapshotGateway = new SnapshotCategoryGateway(aGateway, Clock.systemUTC());
+            aGateway = this.snapshotGateway;
+        } else {
+            this.snapshotGateway = null;
+        }
+        if (cacheEnabled) {
+            this.cachingGateway = new CachingCategoryGateway(aGateway, maximumSize, expireAfterWrite,
+                    pagesMaximumSize, pagesExpireAfterWrite);
+            this.cachingGateway.bindTo(meterRegistry);
+            aGateway = this.cachingGateway;
+        } else {
+            this.cachingGateway = null;
+        }
+        if (idFilterEnabled) {
+            this.idFilter = new CategoryIdFilter(idReader, expectedInsertions, falsePositiveRate, rebuildInterval);
+            this.idFilter.bindTo(meterRegistry);
+            aGateway = new FilteringCategoryGateway(aGateway, this.idFilter, this::settledUntil);
+        } else {
+            this.idFilter = null;
+        }
+        this.categoryGateway = aGateway;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnExpression("${category.cache.enabled:false} or ${category.id-filter.enabled:false}"
+            + " or ${category.snapshot.enabled:false}")
+    public CategoryChangePoller categoryChangePoller(
+            final CategoryChangeLog changeLog,
+            @Value("${category.cache.change-log.poll-interval:1s}") final Duration pollInterval,
+            @Value("${category.cache.change-log.grace-period:10s}") final Duration gracePeriod,
+            @Value("${category.cache.change-log.retention:1d}") final Duration retention) {
+        this.changePoller = new CategoryChangePoller(changeLog, this::changedElsewhere, pollInterval, gracePeriod,
+                retention, Clock.systemUTC());
+        return this.changePoller;
+    }
+
+    // Starts after the poller has taken its watermark, so ids created by other nodes during the first scan
+    // still reach the filter through the change log.
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "category.id-filter.enabled", havingValue = "true")
+    @DependsOn("categoryChangePoller")
+    public CategoryIdFilter categoryIdFilter() {
+        return this.idFilter;
+    }
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
-        this.categoryGateway = categoryGateway;
+    // Catches up after the poller has taken its watermark, so no change falls between the two.
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "category.snapshot.enabled", havingValue = "true")
+    @DependsOn("categoryChangePoller")
+    public CategorySnapshotStore categorySnapshotStore(
+            final CategoryScanner scanner,
+            final CategoryChangeLog changeLog,
+            @Value("${category.snapshot.path}") final Path path,
+            @Value("${category.snapshot.write-interval:10m}") final Duration writeInterval,
+            @Value("${category.snapshot.serve-for:10m}") final Duration serveFor,
+            @Value("${category.cache.change-log.retention:1d}") final Duration retention) {
+        return new CategorySnapshotStore(scanner, changeLog, this.snapshotGateway, path, writeInterval, serveFor,
+                retention, Clock.systemUTC());
     }
 
     @Bean
@@ -28,6 +150,21 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase(
+            @Value("${category.batch.chunk-size:500}") final int chunkSize) {
+        return new DefaultCreateCategoriesUseCase(categoryGateway, chunkSize);
+    }
+
+    // Validation is CPU bound and runs on the common pool; writes stay on the request thread.
+    @Bean
+    public ImportCategoriesUseCase importCategoriesUseCase(
+            @Value("${category.import.chunk-size:500}") final int chunkSize,
+            @Value("${category.import.max-in-flight-chunks:4}") final int maxInFlightChunks) {
+        return new DefaultImportCategoriesUseCase(categoryGateway, chunkSize, maxInFlightChunks,
+                ForkJoinPool.commonPool());
+    }
+
     @Bean
     public UpdateCategoryUseCase createUpdateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
@@ -38,14 +175,56 @@ public class CategoryUseCaseConfig {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase(
+            @Value("${category.get-by-ids.max-ids:100}") final int maxIds) {
+        return new DefaultGetCategoriesByIdsUseCase(categoryGateway, maxIds);
+    }
+
+    @Bean
+    public GetCategoryVersionUseCase getCategoryVersionUseCase() {
+        return new DefaultGetCategoryVersionUseCase(categoryGateway);
+    }
+
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
         return new DefaultListCategoriesUseCase(categoryGateway);
     }
 
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase(
+            @Value("${category.export.batch-size:1000}") final int batchSize) {
+        return new DefaultExportCategoriesUseCase(categoryGateway, batchSize);
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
 
+    @Override
+    public void close() {
+        if (this.cachingGateway != null) {
+            this.cachingGateway.close();
+        }
+    }
+
+    private void changedElsewhere(final List<CategoryID> anIds) {
+        if (this.snapshotGateway != null) {
+            this.snapshotGateway.changed(anIds);
+        }
+        if (this.cachingGateway != null) {
+            this.cachingGateway.evict(anIds);
+        }
+        if (this.idFilter != null) {
+            this.idFilter.putAll(anIds);
+        }
+    }
+
+    // Until the poller exists nothing is settled, so every id filter miss still goes to the database.
+    private Instant settledUntil() {
+        final var aPoller = this.changePoller;
+        return aPoller == null ? Instant.MIN : aPoller.settledUntil();
+    }
+
 }
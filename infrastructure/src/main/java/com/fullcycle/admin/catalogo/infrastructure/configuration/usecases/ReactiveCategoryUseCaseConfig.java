@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalogo.application.category.create.DefaultReactiveCreateCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultReactiveCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.ReactiveCreateCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.ReactiveCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DefaultReactiveDeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.ReactiveDeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultReactiveGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.ReactiveGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultReactiveListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ReactiveListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.DefaultReactiveUpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.ReactiveUpdateCategoryUseCase;
+import com.fullcycle.catalogo.domain.category.ReactiveCategoryGateway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCategoryUseCaseConfig {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public ReactiveCategoryUseCaseConfig(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = categoryGateway;
+    }
+
+    @Bean
+    public ReactiveCreateCategoryUseCase reactiveCreateCategoryUseCase() {
+        return new DefaultReactiveCreateCategoryUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ReactiveCreateCategoriesUseCase reactiveCreateCategoriesUseCase(
+            @Value("${category.batch.chunk-size:500}") final int chunkSize) {
+        return new DefaultReactiveCreateCategoriesUseCase(categoryGateway, chunkSize);
+    }
+
+    @Bean
+    public ReactiveUpdateCategoryUseCase reactiveUpdateCategoryUseCase() {
+        return new DefaultReactiveUpdateCategoryUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ReactiveGetCategoryByIdUseCase reactiveGetCategoryByIdUseCase() {
+        return new DefaultReactiveGetCategoryByIdUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ReactiveListCategoriesUseCase reactiveListCategoriesUseCase() {
+        return new DefaultReactiveListCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ReactiveDeleteCategoryUseCase reactiveDeleteCategoryUseCase() {
+        return new DefaultReactiveDeleteCategoryUseCase(categoryGateway);
+    }
+
+}
@@ -1,7 +1,12 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.dialect.MatchAgainstFunction;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import java.util.ArrayList;
+
 public class SpecificationUtils {
 
     private SpecificationUtils() {
@@ -12,6 +17,34 @@ public class SpecificationUtils {
                 .like(criteriaBuilder.upper(root.get(prop)), like(term.toUpperCase()));
     }
 
+    public static <T> Specification<T> match(final String booleanQuery, final String... props) {
+        return (root, query, criteriaBuilder) -> {
+            final var arguments = new ArrayList<Expression<?>>();
+            for (final String prop : props) {
+                arguments.add(root.get(prop));
+            }
+            arguments.add(criteriaBuilder.literal(booleanQuery));
+            final var relevance = criteriaBuilder.function(MatchAgainstFunction.NAME, Double.class,
+                    arguments.toArray(Expression[]::new));
+            return criteriaBuilder.greaterThan(relevance, 0d);
+        };
+    }
+
+    public static <T, Y extends Comparable<? super Y>> Specification<T> after(final String prop, final Y key,
+                                                                             final String idProp, final String id,
+                                                                             final boolean ascending) {
+        return (root, query, criteriaBuilder) -> {
+            final Path<Y> keyPath = root.get(prop);
+            final Path<String> idPath = root.get(idProp);
+            if (ascending) {
+                return criteriaBuilder.or(criteriaBuilder.greaterThan(keyPath, key),
+                        criteriaBuilder.and(criteriaBuilder.equal(keyPath, key), criteriaBuilder.greaterThan(idPath, id)));
+            }
+            return criteriaBuilder.or(criteriaBuilder.lessThan(keyPath, key),
+                    criteriaBuilder.and(criteriaBuilder.equal(keyPath, key), criteriaBuilder.lessThan(idPath, id)));
+        };
+    }
+
     private static String like(final String term) {
         return "%" + term + "%";
     }
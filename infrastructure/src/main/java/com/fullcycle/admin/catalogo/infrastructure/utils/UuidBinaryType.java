@@ -0,0 +1,100 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+public class UuidBinaryType extends AbstractSingleColumnStandardBasicType<String> {
+
+    public static final String NAME = "com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType";
+
+    private static final int UUID_LENGTH = 36;
+    private static final int BINARY_LENGTH = 16;
+
+    public UuidBinaryType() {
+        super(BinaryTypeDescriptor.INSTANCE, UuidStringTypeDescriptor.INSTANCE);
+    }
+
+    public static boolean isUuid(final String aValue) {
+        if (aValue == null || aValue.length() != UUID_LENGTH) {
+            return false;
+        }
+        try {
+            return UUID.fromString(aValue).toString().equalsIgnoreCase(aValue);
+        } catch (final IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    public static byte[] toBytes(final String anId) {
+        final var uuid = UUID.fromString(anId);
+        return ByteBuffer.allocate(BINARY_LENGTH)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBytes(final byte[] aValue) {
+        final var buffer = ByteBuffer.wrap(aValue);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    private static class UuidStringTypeDescriptor extends AbstractTypeDescriptor<String> {
+
+        private static final UuidStringTypeDescriptor INSTANCE = new UuidStringTypeDescriptor();
+
+        private UuidStringTypeDescriptor() {
+            super(String.class);
+        }
+
+        @Override
+        public String toString(final String value) {
+            return value;
+        }
+
+        @Override
+        public String fromString(final String string) {
+            return string;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (byte[].class.isAssignableFrom(type)) {
+                return (X) toBytes(value);
+            }
+            if (String.class.isAssignableFrom(type)) {
+                return (X) value;
+            }
+            throw unknownUnwrap(type);
+        }
+
+        @Override
+        public <X> String wrap(final X value, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof byte[] bytes) {
+                return fromBytes(bytes);
+            }
+            if (value instanceof String string) {
+                return string;
+            }
+            throw unknownWrap(value.getClass());
+        }
+
+    }
+
+}
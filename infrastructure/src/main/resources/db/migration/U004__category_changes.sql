@@ -0,0 +1 @@
+DROP TABLE category_changes;
\ No newline at end of file
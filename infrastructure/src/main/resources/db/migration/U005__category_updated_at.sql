@@ -0,0 +1 @@
+DROP INDEX idx_category_updated_at ON category;
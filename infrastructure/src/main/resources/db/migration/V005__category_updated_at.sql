@@ -0,0 +1 @@
+CREATE INDEX idx_category_updated_at ON category (updated_at);
@@ -12,9 +12,13 @@ import java.lang.annotation.*;
 @Retention(RetentionPolicy.RUNTIME)
 @Inherited
 @ActiveProfiles("test")
-@ComponentScan(includeFilters = {
-        @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*[MySQLGateway]")
-})
+@ComponentScan(
+        basePackages = "com.fullcycle.admin.catalogo",
+        useDefaultFilters = false,
+        includeFilters = {
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway"),
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*CategoryChangeLog")
+        })
 @DataJpaTest
 @ExtendWith(CleanUpExtension.class)
 public @interface MySQLGatewayTest {
@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@IntegrationTest
+public class CreateCategoriesUseCaseIT {
+
+    @Autowired
+    private CreateCategoriesUseCase useCase;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @SpyBean
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenValidAndInvalidCommands_whenCallsCreateCategories_shouldPersistOnlyValidOnes() {
+        final var expectedErrorMessage = "'name' must be between 3 and 255 characters";
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with("Fi", null, true),
+                CreateCategoryCommand.with("Series", null, false));
+
+        assertEquals(0, categoryRepository.count());
+
+        final var actualResults = useCase.execute(commands);
+
+        assertEquals(2, categoryRepository.count());
+        assertEquals(expectedErrorMessage, actualResults.get(1).getLeft().firstError().message());
+
+        final var filmes = categoryRepository.findById(actualResults.get(0).get().id().getValue()).get();
+        assertEquals("Filmes", filmes.getName());
+        assertEquals("A categoria mais assistida", filmes.getDescription());
+        assertTrue(filmes.isActive());
+
+        final var series = categoryRepository.findById(actualResults.get(2).get().id().getValue()).get();
+        assertEquals("Series", series.getName());
+        assertFalse(series.isActive());
+        assertNotNull(series.getDeletedAt());
+    }
+
+    @Test
+    void givenValidCommands_whenGatewayThrowsRandomException_shouldReturnNotificationPerItem() {
+        final var expectedErrorMessage = "Gateway error";
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Series", null, true));
+
+        doThrow(new IllegalStateException(expectedErrorMessage)).when(categoryGateway).createAll(any());
+
+        final var actualResults = useCase.execute(commands);
+
+        assertEquals(0, categoryRepository.count());
+        assertEquals(expectedErrorMessage, actualResults.get(0).getLeft().firstError().message());
+        assertEquals(expectedErrorMessage, actualResults.get(1).getLeft().firstError().message());
+    }
+
+}
@@ -0,0 +1,341 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.category.v1.CategoryPage;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+@AutoConfigureMockMvc
+class CategoryAPIIT {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsGetById_shouldReturnItWithAnETag() throws Exception {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+
+        mvc.perform(get("/categories/{id}", aCategory.getId().getValue()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.id").value(aCategory.getId().getValue()))
+                .andExpect(jsonPath("$.name").value("Filmes"));
+    }
+
+    @Test
+    void givenTheCurrentETag_whenCallsGetById_shouldReturnNotModified() throws Exception {
+        final var anId = categoryGateway.create(Category.newCategory("Filmes", null, true)).getId().getValue();
+        final var anETag = eTagOf("/categories/" + anId);
+
+        mvc.perform(get("/categories/{id}", anId).header(HttpHeaders.IF_NONE_MATCH, anETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, anETag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void givenAnOutdatedETag_whenCallsGetById_shouldReturnTheNewVersion() throws Exception {
+        final var aCategory = categoryGateway.create(Category.newCategory("Film", null, true));
+        final var anId = aCategory.getId().getValue();
+        final var anETag = eTagOf("/categories/" + anId);
+
+        categoryGateway.update(Category.with(aCategory).update("Filmes", null, true));
+
+        mvc.perform(get("/categories/{id}", anId).header(HttpHeaders.IF_NONE_MATCH, anETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(anETag)))
+                .andExpect(jsonPath("$.name").value("Filmes"));
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsGetByIdWithAnETag_shouldReturnUnprocessableEntity() throws Exception {
+        mvc.perform(get("/categories/{id}", "123").header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0]").value("Category with ID 123 was not found"));
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsGetByIds_shouldReturnTheFoundOnesInRequestOrder() throws Exception {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+
+        mvc.perform(get("/categories").param("ids", "%s,123,%s".formatted(series.getId().getValue(),
+                        filmes.getId().getValue())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(series.getId().getValue()))
+                .andExpect(jsonPath("$[0].name").value("Series"))
+                .andExpect(jsonPath("$[1].name").value("Filmes"));
+    }
+
+    @Test
+    void givenSparseFields_whenCallsListCategories_shouldOnlyWriteTheRequestedFields() throws Exception {
+        categoryGateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+        final var fullETag = eTagOf("/categories?sort=name");
+
+        final var anETag = mvc.perform(get("/categories?sort=name&fields=id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.items[0].id").exists())
+                .andExpect(jsonPath("$.items[0].name").value("Filmes"))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.items[0].updatedAt").doesNotExist())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(fullETag, anETag);
+        mvc.perform(get("/categories?sort=name&fields=id,name").header(HttpHeaders.IF_NONE_MATCH, anETag))
+                .andExpect(status().isNotModified());
+        mvc.perform(get("/categories?sort=name&fields=id,name").header(HttpHeaders.IF_NONE_MATCH, fullETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void givenSparseFields_whenCallsGetById_shouldOnlyWriteTheRequestedFields() throws Exception {
+        final var anId = categoryGateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true))
+                .getId().getValue();
+
+        mvc.perform(get("/categories/{id}", anId).param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTagOf("/categories/" + anId))))
+                .andExpect(content().json("{\"name\":\"Filmes\"}", true));
+    }
+
+    @Test
+    void givenAProtobufAccept_whenCallsGetById_shouldReturnTheProtobufRepresentation() throws Exception {
+        final var anId = categoryGateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true))
+                .getId().getValue();
+        final var aJsonETag = eTagOf("/categories/" + anId);
+
+        final var aResponse = mvc.perform(get("/categories/{id}", anId).accept(CategoryAPI.APPLICATION_PROTOBUF_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, CategoryAPI.APPLICATION_PROTOBUF_VALUE))
+                .andExpect(header().string(HttpHeaders.ETAG, not(aJsonETag)))
+                .andReturn()
+                .getResponse();
+        final var aCategory = CategoryProtobuf.decodeCategory(aResponse.getContentAsByteArray());
+
+        assertEquals(anId, aCategory.id());
+        assertEquals("Filmes", aCategory.name());
+        assertEquals("A categoria mais assistida", aCategory.description());
+        assertTrue(aCategory.active());
+        mvc.perform(get("/categories/{id}", anId)
+                        .accept(CategoryAPI.APPLICATION_PROTOBUF_VALUE)
+                        .header(HttpHeaders.IF_NONE_MATCH, aResponse.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+        mvc.perform(get("/categories/{id}", anId).header(HttpHeaders.IF_NONE_MATCH, aResponse.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+    }
+
+    @Test
+    void givenACborAccept_whenCallsListCategories_shouldReturnTheCborRepresentation() throws Exception {
+        categoryGateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+
+        final var aBody = mvc.perform(get("/categories?sort=name&fields=id,name").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_CBOR_VALUE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        final var aPage = new ObjectMapper(new CBORFactory()).readTree(aBody);
+
+        assertEquals(1, aPage.get("total").asInt());
+        assertEquals("Filmes", aPage.get("items").get(0).get("name").asText());
+        assertFalse(aPage.get("items").get(0).has("description"));
+    }
+
+    @Test
+    void givenAProtobufAccept_whenCallsListCategories_shouldReturnTheProtobufRepresentation() throws Exception {
+        categoryGateway.create(Category.newCategory("Filmes", null, true));
+        categoryGateway.create(Category.newCategory("Series", "Temporadas", false));
+
+        final var aBody = mvc.perform(get("/categories?sort=name&perPage=1").accept(CategoryAPI.APPLICATION_PROTOBUF_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, CategoryAPI.APPLICATION_PROTOBUF_VALUE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        final var aPage = CategoryProtobuf.decodePage(aBody);
+
+        assertEquals(2, aPage.total());
+        assertEquals(1, aPage.items().size());
+        assertEquals("Filmes", aPage.items().get(0).name());
+        assertTrue(aPage.hasNext());
+    }
+
+    @Test
+    void givenAProtobufAcceptAndFields_whenCallsListCategories_shouldWriteActiveForInactiveCategories()
+            throws Exception {
+        categoryGateway.create(Category.newCategory("Series", "Temporadas", false));
+
+        final var aBody = mvc.perform(get("/categories?fields=name,active")
+                        .accept(CategoryAPI.APPLICATION_PROTOBUF_VALUE))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        final var anItem = CategoryPage.parseFrom(aBody).getItems(0);
+
+        assertEquals("Series", anItem.getName());
+        assertTrue(anItem.hasActive());
+        assertFalse(anItem.getActive());
+        assertFalse(anItem.hasId());
+        assertFalse(anItem.hasDescription());
+    }
+
+    @Test
+    void givenASortWithoutCursors_whenCallsListCategoriesAfterACursor_shouldReturnUnprocessableEntity()
+            throws Exception {
+        categoryGateway.create(Category.newCategory("Filmes", "A mais assistida", true));
+        categoryGateway.create(Category.newCategory("Series", "A menos assistida", true));
+
+        mvc.perform(get("/categories?sort=description&perPage=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        mvc.perform(get("/categories?sort=description&after=abc"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0]").value("'after' is not supported for sort 'description'"));
+    }
+
+    @Test
+    void givenAnUnknownField_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        mvc.perform(get("/categories?fields=id,color"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0]").value("'fields' has an unknown field: 'color'"));
+    }
+
+    @Test
+    void givenTheCurrentETag_whenCallsListCategories_shouldReturnNotModifiedUntilAWrite() throws Exception {
+        categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var anETag = eTagOf("/categories?perPage=10&sort=name");
+
+        mvc.perform(get("/categories?perPage=10&sort=name").header(HttpHeaders.IF_NONE_MATCH, anETag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        categoryGateway.create(Category.newCategory("Series", null, true));
+
+        mvc.perform(get("/categories?perPage=10&sort=name").header(HttpHeaders.IF_NONE_MATCH, anETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.items[1].name").value("Series"));
+        assertNotEquals(anETag, eTagOf("/categories?perPage=10&sort=name"));
+    }
+
+    @Test
+    void givenASearchTerm_whenCallsListCategories_shouldFilterBySearch() throws Exception {
+        categoryGateway.create(Category.newCategory("Filmes", null, true));
+        categoryGateway.create(Category.newCategory("Series", null, true));
+
+        mvc.perform(get("/categories?search=ser"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.items[0].name").value("Series"));
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsExport_shouldStreamOneJsonObjectPerLine() throws Exception {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", "Temporadas", false));
+
+        final var aResult = mvc.perform(get("/categories/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(aResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, CategoryAPI.APPLICATION_NDJSON_VALUE));
+        final var lines = aResult.getResponse().getContentAsString().split("\n");
+
+        assertEquals(2, lines.length);
+        final var expectedFirst = filmes.getId().getValue().compareTo(series.getId().getValue()) < 0 ? filmes : series;
+        assertTrue(lines[0].startsWith("{\"id\":\"" + expectedFirst.getId().getValue() + "\""), lines[0]);
+        assertTrue(lines[1].contains("\"name\":\""), lines[1]);
+    }
+
+    @Test
+    void givenAnNdjsonBody_whenCallsImport_shouldCreateValidRowsAndStreamTheRejectedOnes() throws Exception {
+        final var body = """
+                {"name":"Filmes","description":"A mais assistida","active":true}
+                {"description":"Sem nome"}
+                {"name":"Series","active":false}
+                """;
+
+        final var aResult = mvc.perform(post("/categories/import")
+                        .contentType(CategoryAPI.APPLICATION_NDJSON_VALUE)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(aResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, CategoryAPI.APPLICATION_NDJSON_VALUE));
+        final var lines = aResult.getResponse().getContentAsString().split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals("{\"line\":2,\"errors\":[\"'name' should not be null\"]}", lines[0]);
+        assertTrue(lines[1].startsWith("{\"imported\":2,\"failed\":1,"), lines[1]);
+        assertTrue(lines[1].contains("\"rowsPerSecond\":"), lines[1]);
+        assertEquals(2, categoryGateway.forEachBatch(10, batch -> {
+        }));
+    }
+
+    @Test
+    void givenACsvBody_whenCallsImport_shouldCreateEveryRow() throws Exception {
+        final var body = "name,description,active\nFilmes,\"Longas, curtas\",true\nSeries,,\n";
+
+        final var aResult = mvc.perform(post("/categories/import")
+                        .contentType(CategoryAPI.TEXT_CSV_VALUE)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(aResult))
+                .andExpect(status().isOk());
+        final var lines = aResult.getResponse().getContentAsString().split("\n");
+
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].startsWith("{\"imported\":2,\"failed\":0,"), lines[0]);
+    }
+
+    private String eTagOf(final String aUri) throws Exception {
+        final var anETag = mvc.perform(get(aUri))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotNull(anETag);
+        return anETag;
+    }
+
+}
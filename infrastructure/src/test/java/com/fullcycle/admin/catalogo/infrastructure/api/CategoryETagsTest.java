@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryETagsTest {
+
+    @Test
+    void givenAnUpdatedAt_whenCallsOf_shouldReturnAStrongQuotedETag() {
+        final var anETag = CategoryETags.of(Instant.parse("2022-05-01T12:00:00.000001Z"));
+
+        assertTrue(anETag.startsWith("\"") && anETag.endsWith("\""));
+        assertEquals(anETag, CategoryETags.of(Instant.parse("2022-05-01T12:00:00.000001Z")));
+        assertNotEquals(anETag, CategoryETags.of(Instant.parse("2022-05-01T12:00:00.000002Z")));
+    }
+
+    @Test
+    void givenPagesWithDifferentContent_whenCallsOf_shouldReturnDifferentETags() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var anotherCategory = Category.newCategory("Series", null, true);
+        final var aPage = new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(aCategory)));
+
+        assertEquals(CategoryETags.of(aPage), CategoryETags.of(aPage.map(it -> it)));
+        assertNotEquals(CategoryETags.of(aPage),
+                CategoryETags.of(new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(anotherCategory)))));
+        assertNotEquals(CategoryETags.of(aPage),
+                CategoryETags.of(new Pagination<>(0, 10, 2, List.of(CategoryListOutput.from(aCategory)))));
+    }
+
+    @Test
+    void givenIfNoneMatchHeaders_whenCallsMatches_shouldUseWeakComparison() {
+        final var anETag = "\"abc\"";
+
+        assertTrue(CategoryETags.matches("\"abc\"", anETag));
+        assertTrue(CategoryETags.matches("W/\"abc\"", anETag));
+        assertTrue(CategoryETags.matches("\"xyz\", \"abc\"", anETag));
+        assertTrue(CategoryETags.matches("*", anETag));
+        assertFalse(CategoryETags.matches("\"xyz\"", anETag));
+        assertFalse(CategoryETags.matches(null, anETag));
+        assertFalse(CategoryETags.matches(" ", anETag));
+    }
+
+    @Test
+    void givenTheGzipVariant_whenCallsMatched_shouldMatchAndReturnTheVariantTheClientHolds() {
+        final var anETag = "\"abc\"";
+
+        assertEquals("\"abc-gzip\"", CategoryETags.gzip(anETag));
+        assertEquals(Optional.of("\"abc-gzip\""), CategoryETags.matched("W/\"abc-gzip\"", anETag));
+        assertEquals(Optional.of(anETag), CategoryETags.matched("\"abc\"", anETag));
+        assertTrue(CategoryETags.matches("\"xyz\", \"abc-gzip\"", anETag));
+        assertFalse(CategoryETags.matches("\"xyz-gzip\"", anETag));
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fullcycle.admin.catalogo.category.v1.CategoryPage;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.UnknownFieldSet;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryProtobufTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2022-05-01T12:00:00.123456Z");
+    private static final Instant UPDATED_AT = Instant.parse("2022-05-02T08:30:00Z");
+
+    @Test
+    void givenACategory_whenEncodesAndDecodes_shouldReturnTheSameCategory() {
+        final var aCategory = new CategoryResponse("8b1c6d2e-5c1f-4d3a-9f1e-2a7b3c4d5e6f", "Filmes",
+                "A categoria mais assistida", true, CREATED_AT, UPDATED_AT, null);
+
+        assertEquals(aCategory, CategoryProtobuf.decodeCategory(CategoryProtobuf.encode(aCategory)));
+    }
+
+    @Test
+    void givenACategory_whenEncodes_shouldWriteTheFieldsOfTheProtoSchema() throws Exception {
+        final var aCategory = new CategoryResponse("123", "Filmes", "", false, CREATED_AT, UPDATED_AT, null);
+
+        final var fields = UnknownFieldSet.parseFrom(CategoryProtobuf.encode(aCategory)).asMap();
+
+        assertEquals(Set.of(1, 2, 3, 4, 5, 6), fields.keySet());
+        assertEquals("123", fields.get(1).getLengthDelimitedList().get(0).toStringUtf8());
+        assertEquals("", fields.get(3).getLengthDelimitedList().get(0).toStringUtf8());
+        assertEquals(List.of(0L), fields.get(4).getVarintList());
+        final var createdAt = Timestamp.parseFrom(fields.get(5).getLengthDelimitedList().get(0));
+        assertEquals(CREATED_AT.getEpochSecond(), createdAt.getSeconds());
+        assertEquals(CREATED_AT.getNano(), createdAt.getNanos());
+    }
+
+    @Test
+    void givenSparseFields_whenEncodes_shouldLeaveTheOthersOut() throws Exception {
+        final var aCategory = new CategoryResponse("123", "Filmes", "Longas", true, CREATED_AT, UPDATED_AT, null);
+
+        final var bytes = CategoryProtobuf.encode(aCategory, Set.of(CategoryField.NAME));
+
+        assertEquals(Set.of(2), UnknownFieldSet.parseFrom(bytes).asMap().keySet());
+        assertEquals(new CategoryResponse(null, "Filmes", null, false, null, null, null),
+                CategoryProtobuf.decodeCategory(bytes));
+    }
+
+    @Test
+    void givenAPage_whenEncodesAndDecodes_shouldReturnTheSamePage() {
+        final var aPage = new Pagination<>(0, 2, Pagination.UNKNOWN_TOTAL, List.of(
+                new CategoryListResponse("1", "Filmes", null, true, CREATED_AT, UPDATED_AT, null),
+                new CategoryListResponse("2", "Series", "Temporadas", false, CREATED_AT, UPDATED_AT, UPDATED_AT)),
+                "bmFtZT1TZXJpZXM", true, false);
+
+        assertEquals(aPage, CategoryProtobuf.decodePage(CategoryProtobuf.encode(aPage)));
+        assertEquals(new Pagination<>(0, 0, 0, List.of(), null, false, false),
+                CategoryProtobuf.decodePage(CategoryProtobuf.encode(new Pagination<>(0, 0, 0, List.of()))));
+    }
+
+    @Test
+    void givenAnInactiveItem_whenEncodesAPage_shouldWriteActiveOnlyWhenItWasSelected() throws Exception {
+        final var aPage = new Pagination<>(0, 1, 1, List.of(
+                new CategoryListResponse("1", "Series", null, false, null, UPDATED_AT, null)));
+
+        final var withActive = CategoryPage.parseFrom(
+                CategoryProtobuf.encode(aPage, Set.of(CategoryField.NAME, CategoryField.ACTIVE)));
+        final var withoutActive = CategoryPage.parseFrom(
+                CategoryProtobuf.encode(aPage, Set.of(CategoryField.NAME)));
+
+        assertTrue(withActive.getItems(0).hasActive());
+        assertFalse(withActive.getItems(0).getActive());
+        assertFalse(withActive.getItems(0).hasUpdatedAt());
+        assertFalse(withoutActive.getItems(0).hasActive());
+        assertEquals("Series", withoutActive.getItems(0).getName());
+    }
+
+    @Test
+    void givenAPage_whenEncodes_shouldBeSmallerThanJson() throws Exception {
+        final var items = IntStream.range(0, 10)
+                .mapToObj(i -> new CategoryListResponse("8b1c6d2e-5c1f-4d3a-9f1e-2a7b3c4d5e6" + i, "Categoria " + i,
+                        "Descrição da categoria " + i, true, CREATED_AT, UPDATED_AT, null))
+                .toList();
+        final var aPage = new Pagination<>(0, 10, 100, items);
+        final var json = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsBytes(aPage);
+
+        assertTrue(CategoryProtobuf.encode(aPage).length < json.length / 2);
+    }
+
+}
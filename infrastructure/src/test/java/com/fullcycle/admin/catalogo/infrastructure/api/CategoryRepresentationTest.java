@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryRepresentationTest {
+
+    @Test
+    void givenAcceptHeaders_whenCallsNegotiate_shouldPickAsSpringMvc() {
+        assertEquals(CategoryRepresentation.JSON, CategoryRepresentation.negotiate(null));
+        assertEquals(CategoryRepresentation.JSON, CategoryRepresentation.negotiate("*/*"));
+        assertEquals(CategoryRepresentation.JSON, CategoryRepresentation.negotiate("application/*"));
+        assertEquals(CategoryRepresentation.CBOR, CategoryRepresentation.negotiate("application/cbor"));
+        assertEquals(CategoryRepresentation.PROTOBUF,
+                CategoryRepresentation.negotiate("application/json;q=0.5, application/x-protobuf"));
+        assertEquals(CategoryRepresentation.CBOR,
+                CategoryRepresentation.negotiate("application/x-protobuf;q=0, application/cbor;q=0.8, text/html"));
+    }
+
+    @Test
+    void givenAJsonETag_whenCallsETag_shouldOnlyChangeItForTheBinaryRepresentations() {
+        final var anETag = "\"17f0a2b3c4d\"";
+
+        assertEquals(anETag, CategoryRepresentation.JSON.eTag(anETag));
+        assertEquals("\"17f0a2b3c4d.cbor\"", CategoryRepresentation.CBOR.eTag(anETag));
+        assertEquals("\"17f0a2b3c4d.pb\"", CategoryRepresentation.PROTOBUF.eTag(anETag));
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "category.response-cache.enabled=true",
+        "category.response-cache.gzip-min-size=1"
+})
+class CategoryResponseCacheIT {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void givenAnUpdatedCategory_whenCallsGetByIdAgain_shouldServeTheNewVersion() throws Exception {
+        final var aCategory = categoryGateway.create(Category.newCategory("Film", null, true));
+        final var anId = aCategory.getId().getValue();
+        final var hits = gets("hit");
+
+        mvc.perform(get("/categories/{id}", anId)).andExpect(jsonPath("$.name").value("Film"));
+        mvc.perform(get("/categories/{id}", anId)).andExpect(jsonPath("$.name").value("Film"));
+        assertEquals(hits + 1, gets("hit"));
+
+        categoryGateway.update(Category.with(aCategory).update("Filmes", null, true));
+
+        mvc.perform(get("/categories/{id}", anId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Filmes"));
+    }
+
+    @Test
+    void givenAcceptEncodingGzip_whenCallsGetById_shouldServeThePrecompressedBody() throws Exception {
+        final var anId = categoryGateway.create(Category.newCategory("Filmes", "A mais assistida", true))
+                .getId().getValue();
+
+        final var aResponse = mvc.perform(get("/categories/{id}", anId).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING))
+                .andReturn()
+                .getResponse();
+
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(aResponse.getContentAsByteArray()))) {
+            final var json = new String(in.readAllBytes());
+            assertTrue(json.contains("\"name\":\"Filmes\""), json);
+        }
+    }
+
+    @Test
+    void givenBothEncodings_whenCallsGetById_shouldTagEachWithItsOwnETag() throws Exception {
+        final var anId = categoryGateway.create(Category.newCategory("Filmes", "A mais assistida", true))
+                .getId().getValue();
+
+        final var identity = mvc.perform(get("/categories/{id}", anId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        final var gzipped = mvc.perform(get("/categories/{id}", anId).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertEquals(CategoryETags.gzip(identity), gzipped);
+        mvc.perform(get("/categories/{id}", anId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipped))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, gzipped));
+        mvc.perform(get("/categories/{id}", anId).header(HttpHeaders.IF_NONE_MATCH, identity))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, identity));
+    }
+
+    private double gets(final String aResult) {
+        final var counter = meterRegistry.find("cache.gets")
+                .tags("cache", CategoryResponseCache.CACHE_NAME, "result", aResult)
+                .functionCounter();
+        return counter == null ? 0 : counter.count();
+    }
+
+}
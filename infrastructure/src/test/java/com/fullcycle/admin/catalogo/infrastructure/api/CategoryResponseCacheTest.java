@@ -0,0 +1,80 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.catalogo.domain.category.Category;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void givenTheSameVersion_whenCallsGet_shouldReuseTheEncodedBytes() {
+        final var aCache = new CategoryResponseCache(objectMapper, true, 100, Duration.ofMinutes(1), 1024);
+        final var anOutput = CategoryOutput.from(Category.newCategory("Filmes", null, true));
+        final var loads = new AtomicInteger();
+
+        final var first = aCache.get("1", anOutput.updatedAt(), () -> {
+            loads.incrementAndGet();
+            return anOutput;
+        });
+        final var second = aCache.get("1", anOutput.updatedAt(), () -> {
+            loads.incrementAndGet();
+            return anOutput;
+        });
+
+        assertEquals(1, loads.get());
+        assertSame(first.json(), second.json());
+        assertEquals(CategoryETags.of(anOutput.updatedAt()), second.eTag());
+        assertNull(second.gzip());
+    }
+
+    @Test
+    void givenANewerVersion_whenCallsGet_shouldEncodeItAgain() {
+        final var aCache = new CategoryResponseCache(objectMapper, true, 100, Duration.ofMinutes(1), 1024);
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var before = CategoryOutput.from(aCategory);
+        aCache.get("1", before.updatedAt(), () -> before);
+
+        final var after = CategoryOutput.from(Category.with(aCategory).update("Filmes", null, true));
+        final var actual = aCache.get("1", after.updatedAt().plusMillis(1), () -> after);
+
+        assertTrue(new String(actual.json()).contains("\"name\":\"Filmes\""));
+    }
+
+    @Test
+    void givenALargeBody_whenCallsGet_shouldKeepAGzipVariantOfTheSameJson() throws IOException {
+        final var aCache = new CategoryResponseCache(objectMapper, true, 100, Duration.ofMinutes(1), 16);
+        final var anOutput = CategoryOutput.from(Category.newCategory("Filmes", "a".repeat(500), true));
+
+        final var actual = aCache.get("1", anOutput.updatedAt(), () -> anOutput);
+
+        assertNotNull(actual.gzip());
+        assertTrue(actual.gzip().length < actual.json().length);
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(actual.gzip()))) {
+            assertArrayEquals(actual.json(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void givenAcceptEncodingHeaders_whenCallsAcceptsGzip_shouldHonourZeroWeights() {
+        assertTrue(CategoryResponseCache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(CategoryResponseCache.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(CategoryResponseCache.acceptsGzip("*"));
+        assertFalse(CategoryResponseCache.acceptsGzip("gzip;q=0"));
+        assertTrue(CategoryResponseCache.acceptsGzip("*;q=0, gzip"));
+        assertFalse(CategoryResponseCache.acceptsGzip("gzip;q=0, *"));
+        assertFalse(CategoryResponseCache.acceptsGzip("deflate"));
+        assertFalse(CategoryResponseCache.acceptsGzip(null));
+    }
+
+}
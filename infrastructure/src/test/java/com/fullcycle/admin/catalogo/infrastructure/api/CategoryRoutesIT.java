@@ -0,0 +1,166 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryIdResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@IntegrationTest
+@AutoConfigureWebTestClient
+@TestPropertySource(properties = "spring.main.web-application-type=reactive")
+class CategoryRoutesIT {
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Test
+    void givenAValidRequest_whenCallsCreateCategory_shouldReturnCreatedAndBeRetrievable() {
+        final var anId = create(new CreateCategoryRequest("Filmes", "A categoria mais assistida", true));
+
+        webClient.get().uri("/categories/{id}", anId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(anId)
+                .jsonPath("$.name").isEqualTo("Filmes")
+                .jsonPath("$.active").isEqualTo(true);
+    }
+
+    @Test
+    void givenTheCurrentETag_whenCallsGetAndListCategories_shouldReturnNotModified() {
+        final var anId = create(new CreateCategoryRequest("Filmes", null, true));
+
+        final var categoryETag = webClient.get().uri("/categories/{id}", anId)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+        final var pageETag = webClient.get().uri("/categories")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webClient.get().uri("/categories/{id}", anId)
+                .header(HttpHeaders.IF_NONE_MATCH, categoryETag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, categoryETag)
+                .expectBody().isEmpty();
+        webClient.get().uri("/categories")
+                .header(HttpHeaders.IF_NONE_MATCH, pageETag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void givenAnInvalidName_whenCallsCreateCategory_shouldReturnUnprocessableEntity() {
+        webClient.post().uri("/categories")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCategoryRequest(null, null, true))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.errors[0]").isEqualTo("'name' should not be null");
+    }
+
+    @Test
+    void givenValidAndInvalidRequests_whenCallsCreateCategories_shouldReturnMultiStatus() {
+        webClient.post().uri("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(new CreateCategoryRequest("Filmes", null, true),
+                        new CreateCategoryRequest(null, null, true)))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.MULTI_STATUS)
+                .expectBody()
+                .jsonPath("$[0].errors").isEmpty()
+                .jsonPath("$[1].errors[0]").isEqualTo("'name' should not be null");
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsListCategories_shouldReturnPage() {
+        create(new CreateCategoryRequest("Filmes", null, true));
+        create(new CreateCategoryRequest("Series", null, true));
+
+        webClient.get().uri("/categories?perPage=1&sort=name&dir=desc")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(2)
+                .jsonPath("$.hasNext").isEqualTo(true)
+                .jsonPath("$.items[0].name").isEqualTo("Series");
+    }
+
+    @Test
+    void givenAnInvalidTotalMode_whenCallsListCategories_shouldReturnUnprocessableEntity() {
+        webClient.get().uri("/categories?total=sometimes")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.errors[0]").isEqualTo("'total' must be one of exact, none or approximate");
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsUpdateCategory_shouldPersistNewValues() {
+        final var anId = create(new CreateCategoryRequest("Film", null, true));
+
+        webClient.put().uri("/categories/{id}", anId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UpdateCategoryRequest("Filmes", "A categoria mais assistida", false))
+                .exchange()
+                .expectStatus().isOk();
+
+        webClient.get().uri("/categories/{id}", anId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Filmes")
+                .jsonPath("$.active").isEqualTo(false)
+                .jsonPath("$.deletedAt").isNotEmpty();
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsDeleteCategory_shouldReturnNoContentAndRemoveIt() {
+        final var anId = create(new CreateCategoryRequest("Filmes", null, true));
+
+        webClient.delete().uri("/categories/{id}", anId)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webClient.get().uri("/categories/{id}", anId)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.errors[0]").isEqualTo("Category with ID %s was not found".formatted(anId));
+    }
+
+    private String create(final CreateCategoryRequest aRequest) {
+        final var response = webClient.post().uri("/categories")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(aRequest)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CategoryIdResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(response);
+        return response.id();
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@IntegrationTest
+@TestPropertySource(properties = "category.cache.enabled=true")
+class CachingCategoryGatewayIT {
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    private UpdateCategoryUseCase updateCategoryUseCase;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void givenCacheEnabled_whenCallsGetTwice_shouldRecordAHitAndAMiss() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var hits = gets("hit");
+        final var misses = gets("miss");
+
+        getCategoryByIdUseCase.execute(aCategory.getId().getValue());
+        getCategoryByIdUseCase.execute(aCategory.getId().getValue());
+
+        assertEquals(hits + 1, gets("hit"));
+        assertEquals(misses + 1, gets("miss"));
+    }
+
+    @Test
+    void givenCacheEnabled_whenCallsUpdate_shouldServeTheNewValue() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Film", null, true));
+        final var anId = aCategory.getId().getValue();
+
+        getCategoryByIdUseCase.execute(anId);
+        updateCategoryUseCase.execute(UpdateCategoryCommand.with(anId, "Filmes", null, true));
+
+        assertEquals("Filmes", getCategoryByIdUseCase.execute(anId).name());
+    }
+
+    private double gets(final String aResult) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CachingCategoryGateway.CACHE_NAME)
+                .tag("result", aResult)
+                .functionCounter()
+                .count();
+    }
+
+}
@@ -0,0 +1,231 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.pagination.TotalMode;
+import com.fullcycle.catalogo.domain.validation.Error;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingCategoryGatewayTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final List<Runnable> refreshes = new ArrayList<>();
+
+    private CachingCategoryGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new CachingCategoryGateway(delegate, 2, TTL, 10, TTL, nanos::get, Runnable::run, refreshes::add);
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsFindByIdAgain_shouldNotHitDelegate() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(eq(aCategory.getId()))).thenReturn(Optional.of(aCategory));
+
+        assertEquals("Filmes", gateway.findById(aCategory.getId()).orElseThrow().getName());
+        assertEquals("Filmes", gateway.findById(aCategory.getId()).orElseThrow().getName());
+
+        verify(delegate, times(1)).findById(eq(aCategory.getId()));
+        assertEquals(1, gateway.stats().hitCount());
+        assertEquals(1, gateway.stats().missCount());
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsFindAllByIds_shouldOnlyLoadTheMisses() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        when(delegate.findById(eq(filmes.getId()))).thenReturn(Optional.of(filmes));
+        when(delegate.findAllByIds(eq(List.of(series.getId())))).thenReturn(List.of(series));
+
+        gateway.findById(filmes.getId());
+        final var actualCategories = gateway.findAllByIds(List.of(series.getId(), filmes.getId()));
+
+        assertEquals(List.of("Series", "Filmes"), actualCategories.stream().map(Category::getName).toList());
+        assertEquals("Series", gateway.findById(series.getId()).orElseThrow().getName());
+        verify(delegate, never()).findById(eq(series.getId()));
+    }
+
+    @Test
+    void givenACachedCategory_whenCallerMutatesIt_shouldNotChangeCachedValue() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(eq(aCategory.getId()))).thenReturn(Optional.of(aCategory));
+
+        gateway.findById(aCategory.getId()).orElseThrow().update("Series", null, false);
+
+        final var actualCategory = gateway.findById(aCategory.getId()).orElseThrow();
+        assertEquals("Filmes", actualCategory.getName());
+        assertTrue(actualCategory.isActive());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsFindById_shouldNotCacheTheAbsence() {
+        final var anId = CategoryID.unique();
+        when(delegate.findById(eq(anId))).thenReturn(Optional.empty());
+
+        assertTrue(gateway.findById(anId).isEmpty());
+        assertTrue(gateway.findById(anId).isEmpty());
+
+        verify(delegate, times(2)).findById(eq(anId));
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsUpdateOrDelete_shouldInvalidateIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(eq(aCategory.getId()))).thenReturn(Optional.of(aCategory));
+        when(delegate.update(any())).thenThrow(DomainException.with(new Error("boom")));
+
+        gateway.findById(aCategory.getId());
+        assertThrows(DomainException.class, () -> gateway.update(aCategory));
+        gateway.findById(aCategory.getId());
+        gateway.deleteById(aCategory.getId());
+        gateway.findById(aCategory.getId());
+
+        verify(delegate, times(3)).findById(eq(aCategory.getId()));
+        verify(delegate, times(1)).deleteById(eq(aCategory.getId()));
+    }
+
+    @Test
+    void givenCreatedCategories_whenCallsCreateAll_shouldInvalidateTheirIds() {
+        final var categories = List.of(Category.newCategory("Filmes", null, true));
+        when(delegate.findById(eq(categories.get(0).getId()))).thenReturn(Optional.of(categories.get(0)));
+        when(delegate.createAll(eq(categories))).thenReturn(categories);
+
+        gateway.findById(categories.get(0).getId());
+        gateway.createAll(categories);
+        gateway.findById(categories.get(0).getId());
+
+        verify(delegate, times(2)).findById(eq(categories.get(0).getId()));
+    }
+
+    @Test
+    void givenAnExpiredEntry_whenCallsFindById_shouldReloadIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(eq(aCategory.getId()))).thenReturn(Optional.of(aCategory));
+
+        gateway.findById(aCategory.getId());
+        nanos.addAndGet(TTL.plusSeconds(1).toNanos());
+        gateway.findById(aCategory.getId());
+
+        verify(delegate, times(2)).findById(eq(aCategory.getId()));
+        assertEquals(1, gateway.stats().evictionCount());
+    }
+
+    @Test
+    void givenMoreCategoriesThanMaximumSize_whenCallsFindById_shouldEvictTheExcess() {
+        final var categories = List.of(Category.newCategory("Filmes", null, true),
+                Category.newCategory("Series", null, true),
+                Category.newCategory("Documentarios", null, true));
+        categories.forEach(aCategory ->
+                when(delegate.findById(eq(aCategory.getId()))).thenReturn(Optional.of(aCategory)));
+
+        categories.forEach(aCategory -> gateway.findById(aCategory.getId()));
+
+        assertEquals(1, gateway.stats().evictionCount());
+    }
+
+    @Test
+    void givenEquivalentQueries_whenCallsFindAllSummaries_shouldHitDelegateOnce() {
+        when(delegate.findAllSummaries(any())).thenReturn(pageOf("Filmes"));
+
+        gateway.findAllSummaries(new CategorySearchQuery(0, 10, "  filmes  ", "name", "asc"));
+        final var actualPage = gateway.findAllSummaries(new CategorySearchQuery(0, 10, "FILMES", "name", "ASC"));
+
+        assertEquals("Filmes", actualPage.items().get(0).name());
+        verify(delegate, times(1)).findAllSummaries(any());
+        assertEquals(1, gateway.pagesStats().hitCount());
+    }
+
+    @Test
+    void givenQueriesForDifferentFields_whenCallsFindAllSummaries_shouldCacheEachPageApart() {
+        when(delegate.findAllSummaries(any())).thenReturn(pageOf("Filmes"));
+
+        gateway.findAllSummaries(new CategorySearchQuery(0, 10, "", "name", "asc"));
+        gateway.findAllSummaries(new CategorySearchQuery(0, 10, "", "name", "asc", null, TotalMode.EXACT,
+                Set.of(CategoryField.ID, CategoryField.NAME)));
+
+        verify(delegate, times(2)).findAllSummaries(any());
+    }
+
+    @Test
+    void givenACachedPage_whenAWriteHappens_shouldServeStaleAndRefreshOnceInBackground() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        when(delegate.findAllSummaries(any())).thenReturn(pageOf("Filmes"), pageOf("Documentarios"));
+
+        gateway.findAllSummaries(aQuery);
+        gateway.deleteById(CategoryID.unique());
+
+        assertEquals("Filmes", gateway.findAllSummaries(aQuery).items().get(0).name());
+        assertEquals("Filmes", gateway.findAllSummaries(aQuery).items().get(0).name());
+        assertEquals(1, refreshes.size());
+
+        refreshes.forEach(Runnable::run);
+
+        assertEquals("Documentarios", gateway.findAllSummaries(aQuery).items().get(0).name());
+        verify(delegate, times(2)).findAllSummaries(any());
+    }
+
+    @Test
+    void givenACachedCategoryPage_whenCallerMutatesAnItem_shouldNotChangeCachedPage() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.findAll(any())).thenReturn(new Pagination<>(0, 10, 1, List.of(aCategory)));
+
+        gateway.findAll(aQuery).items().get(0).update("Series", null, true);
+
+        assertEquals("Filmes", gateway.findAll(aQuery).items().get(0).getName());
+        verify(delegate, times(1)).findAll(any());
+    }
+
+    @Test
+    void givenAClosedGateway_whenAWriteHappens_shouldServeTheStalePageWithoutRefreshing() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var refreshExecutor = Executors.newSingleThreadExecutor();
+        final var aGateway = new CachingCategoryGateway(delegate, 2, TTL, 10, TTL, nanos::get, Runnable::run,
+                refreshExecutor);
+        when(delegate.findAllSummaries(any())).thenReturn(pageOf("Filmes"));
+
+        aGateway.findAllSummaries(aQuery);
+        aGateway.close();
+        aGateway.deleteById(CategoryID.unique());
+
+        assertTrue(refreshExecutor.isShutdown());
+        assertEquals("Filmes", aGateway.findAllSummaries(aQuery).items().get(0).name());
+        verify(delegate, times(1)).findAllSummaries(any());
+    }
+
+    private static Pagination<CategorySummary> pageOf(final String aName) {
+        return new Pagination<>(0, 10, 1, List.of(CategorySummary.from(Category.newCategory(aName, null, true))));
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "category.cache.enabled=true",
+        "category.cache.change-log.poll-interval=1h",
+        "category.cache.change-log.grace-period=0s"
+})
+class CategoryChangePollerIT {
+
+    private static ConfigurableApplicationContext otherNode;
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryChangePoller categoryChangePoller;
+
+    @BeforeAll
+    static void startOtherNode() {
+        otherNode = new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test")
+                .properties("spring.main.web-application-type=none")
+                .run();
+    }
+
+    @AfterAll
+    static void stopOtherNode() {
+        otherNode.close();
+    }
+
+    @Test
+    void givenAnUpdateOnAnotherNode_whenPolls_shouldServeTheNewValue() {
+        final var anId = categoryGateway.create(Category.newCategory("Film", null, true)).getId().getValue();
+        assertEquals("Film", getCategoryByIdUseCase.execute(anId).name());
+
+        otherNode.getBean(UpdateCategoryUseCase.class)
+                .execute(UpdateCategoryCommand.with(anId, "Filmes", null, true));
+
+        assertEquals("Film", getCategoryByIdUseCase.execute(anId).name());
+        categoryChangePoller.poll();
+        assertEquals("Filmes", getCategoryByIdUseCase.execute(anId).name());
+    }
+
+    @Test
+    void givenADeleteOnAnotherNode_whenPolls_shouldStopServingTheCategory() {
+        final var anId = categoryGateway.create(Category.newCategory("Filmes", null, true)).getId().getValue();
+        getCategoryByIdUseCase.execute(anId);
+
+        otherNode.getBean(DeleteCategoryUseCase.class).execute(anId);
+        categoryChangePoller.poll();
+
+        assertThrows(DomainException.class, () -> getCategoryByIdUseCase.execute(anId));
+    }
+
+}
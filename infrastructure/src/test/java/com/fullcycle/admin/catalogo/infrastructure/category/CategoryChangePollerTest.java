@@ -0,0 +1,124 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryChangeLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryChangeLog.CategoryChange;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryChangePollerTest {
+
+    private static final Duration GRACE_PERIOD = Duration.ofSeconds(10);
+
+    private static final Instant NOW = Instant.parse("2022-05-01T12:00:00Z");
+
+    @Mock
+    private CategoryChangeLog changeLog;
+
+    private final List<List<CategoryID>> evicted = new ArrayList<>();
+
+    private CategoryChangePoller poller;
+
+    @BeforeEach
+    void setUp() {
+        poller = new CategoryChangePoller(changeLog, evicted::add, Duration.ofSeconds(1), GRACE_PERIOD,
+                Duration.ofDays(1), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void givenAFreshPoller_whenCallsPoll_shouldStartFromTheLastSequenceWithoutEvicting() {
+        when(changeLog.lastSequence()).thenReturn(42L);
+
+        poller.poll();
+
+        verify(changeLog, never()).after(anyLong(), anyInt());
+        assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    void givenSettledChanges_whenCallsPoll_shouldEvictTheirIdsAndMoveOn() {
+        final var first = CategoryID.unique();
+        final var second = CategoryID.unique();
+        when(changeLog.lastSequence()).thenReturn(0L);
+        when(changeLog.after(0L, CategoryChangePoller.BATCH_SIZE)).thenReturn(List.of(
+                new CategoryChange(1, first, NOW.minusSeconds(60)),
+                new CategoryChange(2, second, NOW.minusSeconds(60)),
+                new CategoryChange(3, first, NOW.minusSeconds(60))));
+
+        poller.poll();
+        poller.poll();
+        poller.poll();
+
+        assertEquals(List.of(List.of(first, second)), evicted);
+        verify(changeLog, times(1)).after(0L, CategoryChangePoller.BATCH_SIZE);
+        verify(changeLog, times(1)).after(3L, CategoryChangePoller.BATCH_SIZE);
+        verify(changeLog, times(1)).prune(eq(NOW.minus(Duration.ofDays(1))));
+    }
+
+    @Test
+    void givenAChangeCommittedOutOfOrder_whenCallsPoll_shouldStillEvictIt() {
+        final var recent = CategoryID.unique();
+        final var late = CategoryID.unique();
+        when(changeLog.lastSequence()).thenReturn(0L);
+        when(changeLog.after(0L, CategoryChangePoller.BATCH_SIZE))
+                .thenReturn(List.of(new CategoryChange(2, recent, NOW)))
+                .thenReturn(List.of(new CategoryChange(1, late, NOW), new CategoryChange(2, recent, NOW)));
+
+        poller.poll();
+        poller.poll();
+        poller.poll();
+
+        assertEquals(List.of(List.of(recent), List.of(late)), evicted);
+    }
+
+    @Test
+    void givenAFailingChangeLog_whenCallsPoll_shouldKeepTheWatermark() {
+        when(changeLog.lastSequence()).thenReturn(5L);
+        when(changeLog.after(anyLong(), anyInt()))
+                .thenThrow(new IllegalStateException("connection refused"))
+                .thenReturn(List.of());
+
+        poller.poll();
+        assertThrows(IllegalStateException.class, poller::poll);
+        poller.poll();
+
+        verify(changeLog, times(2)).after(5L, CategoryChangePoller.BATCH_SIZE);
+        verify(changeLog, times(1)).prune(any());
+    }
+
+    @Test
+    void givenSuccessfulAndFailedPolls_whenCallsSettledUntil_shouldKeepTheLastSuccessfulOne() {
+        assertEquals(Instant.MIN, poller.settledUntil());
+        when(changeLog.lastSequence()).thenReturn(0L);
+
+        poller.poll();
+        assertEquals(NOW.minus(GRACE_PERIOD), poller.settledUntil());
+
+        final var later = new CategoryChangePoller(changeLog, evicted::add, Duration.ofSeconds(1), GRACE_PERIOD,
+                Duration.ofDays(1), Clock.fixed(NOW.plusSeconds(60), ZoneOffset.UTC));
+        later.poll();
+        when(changeLog.after(anyLong(), anyInt())).thenThrow(new IllegalStateException("connection refused"));
+
+        assertThrows(IllegalStateException.class, later::poll);
+        assertEquals(NOW.plusSeconds(60).minus(GRACE_PERIOD), later.settledUntil());
+    }
+
+}
@@ -0,0 +1,286 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.pagination.TotalMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Transactional
+public abstract class CategoryGatewayContractTest {
+
+    protected abstract CategoryGateway gateway();
+
+    @Test
+    void givenAValidCategory_whenCallsCreateAndFindById_shouldReturnTheSameCategory() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        gateway().create(aCategory);
+
+        final var actualCategory = gateway().findById(aCategory.getId()).orElseThrow();
+
+        assertEquals(aCategory.getId(), actualCategory.getId());
+        assertEquals(aCategory.getName(), actualCategory.getName());
+        assertEquals(aCategory.getDescription(), actualCategory.getDescription());
+        assertEquals(aCategory.isActive(), actualCategory.isActive());
+        assertEquals(roundMicros(aCategory.getCreatedAt()), roundMicros(actualCategory.getCreatedAt()));
+        assertEquals(roundMicros(aCategory.getUpdatedAt()), roundMicros(actualCategory.getUpdatedAt()));
+        assertNull(actualCategory.getDeletedAt());
+    }
+
+    @Test
+    void givenValidCategories_whenCallsCreateAll_shouldFindEveryOne() {
+        final var categories = List.of(Category.newCategory("Filmes", null, true),
+                Category.newCategory("Series", null, false),
+                Category.newCategory("Documentarios", "Fatos reais", true));
+
+        final var actualCategories = gateway().createAll(categories);
+
+        assertEquals(categories.stream().map(Category::getId).toList(),
+                actualCategories.stream().map(Category::getId).toList());
+        categories.forEach(aCategory -> assertTrue(gateway().findById(aCategory.getId()).isPresent()));
+    }
+
+    @Test
+    void givenUnknownOrMalformedIds_whenCallsFindById_shouldReturnEmpty() {
+        assertTrue(gateway().findById(CategoryID.unique()).isEmpty());
+        assertTrue(gateway().findById(CategoryID.from("invalid")).isEmpty());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllByIds_shouldReturnThemOnceInRequestOrder() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        gateway().createAll(List.of(filmes, series));
+
+        final var actualCategories = gateway().findAllByIds(List.of(series.getId(), CategoryID.unique(),
+                CategoryID.from("invalid"), filmes.getId(), series.getId()));
+
+        assertEquals(List.of(series.getId(), filmes.getId()),
+                actualCategories.stream().map(Category::getId).toList());
+        assertEquals("Series", actualCategories.get(0).getName());
+        assertTrue(gateway().findAllByIds(List.of()).isEmpty());
+    }
+
+    @Test
+    void givenMoreIdsThanFitInOneQuery_whenCallsFindAllByIds_shouldFindThemAcrossChunks() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        gateway().createAll(List.of(filmes, series));
+        final var unknown = Stream.generate(CategoryID::unique).limit(600).toList();
+        final var anIds = new ArrayList<>(unknown);
+        anIds.add(0, series.getId());
+        anIds.add(CategoryID.from(filmes.getId().getValue().toUpperCase(Locale.ROOT)));
+
+        final var actualCategories = gateway().findAllByIds(anIds);
+
+        assertEquals(List.of(series.getId(), filmes.getId()),
+                actualCategories.stream().map(Category::getId).toList());
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsUpdate_shouldPersistNewValues() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        gateway().create(aCategory);
+
+        final var anUpdatedCategory = Category.with(aCategory).update("Filmes", "A categoria mais assistida", false);
+        gateway().update(anUpdatedCategory);
+
+        final var actualCategory = gateway().findById(aCategory.getId()).orElseThrow();
+
+        assertEquals("Filmes", actualCategory.getName());
+        assertEquals("A categoria mais assistida", actualCategory.getDescription());
+        assertFalse(actualCategory.isActive());
+        assertNotNull(actualCategory.getDeletedAt());
+        assertEquals(roundMicros(anUpdatedCategory.getUpdatedAt()), roundMicros(actualCategory.getUpdatedAt()));
+    }
+
+    @Test
+    void givenUnknownOrMalformedIds_whenCallsUpdate_shouldThrowNotFound() {
+        final var unknown = Category.newCategory("Filmes", null, true);
+        final var malformed = Category.with(CategoryID.from("invalid"), "Filmes", null, true,
+                Instant.now(), Instant.now(), null);
+
+        final var unknownException = assertThrows(DomainException.class, () -> gateway().update(unknown));
+        final var malformedException = assertThrows(DomainException.class, () -> gateway().update(malformed));
+
+        assertEquals("Category with ID %s was not found".formatted(unknown.getId().getValue()),
+                unknownException.getErrors().get(0).message());
+        assertEquals("Category with ID invalid was not found", malformedException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsDeleteById_shouldRemoveIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        gateway().create(aCategory);
+
+        gateway().deleteById(aCategory.getId());
+
+        assertTrue(gateway().findById(aCategory.getId()).isEmpty());
+    }
+
+    @Test
+    void givenUnknownOrMalformedIds_whenCallsDeleteById_shouldDoNothing() {
+        assertDoesNotThrow(() -> gateway().deleteById(CategoryID.unique()));
+        assertDoesNotThrow(() -> gateway().deleteById(CategoryID.from("invalid")));
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllByPages_shouldReturnSortedPages() {
+        seed();
+
+        final var firstPage = gateway().findAll(new CategorySearchQuery(0, 2, "", "name", "asc"));
+        final var lastPage = gateway().findAll(new CategorySearchQuery(1, 2, "", "name", "asc"));
+
+        assertEquals(3, firstPage.total());
+        assertEquals(List.of("Documentarios", "Filmes"), namesOf(firstPage));
+        assertTrue(firstPage.hasNext());
+        assertEquals(List.of("Series"), namesOf(lastPage));
+        assertFalse(lastPage.hasNext());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllDescending_shouldReverseOrder() {
+        seed();
+
+        final var actualResult = gateway().findAll(new CategorySearchQuery(0, 10, "", "name", "desc"));
+
+        assertEquals(List.of("Series", "Filmes", "Documentarios"), namesOf(actualResult));
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllWithTerms_shouldMatchNameOrDescriptionIgnoringCase() {
+        seed();
+
+        final var byName = gateway().findAll(new CategorySearchQuery(0, 10, "doc", "name", "asc"));
+        final var byDescription = gateway().findAll(new CategorySearchQuery(0, 10, "MAIS ASSISTIDA", "name", "asc"));
+
+        assertEquals(List.of("Documentarios"), namesOf(byName));
+        assertEquals(1, byName.total());
+        assertEquals(List.of("Filmes"), namesOf(byDescription));
+        assertEquals(1, byDescription.total());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllFollowingCursors_shouldVisitEveryCategoryOnce() {
+        seed();
+
+        var actualResult = gateway().findAll(new CategorySearchQuery(0, 1, "", "createdAt", "asc"));
+        final var visited = new ArrayList<>(namesOf(actualResult));
+        for (int page = 0; page < 3 && actualResult.nextCursor() != null; page++) {
+            actualResult = gateway().findAll(
+                    new CategorySearchQuery(0, 1, "", "createdAt", "asc", actualResult.nextCursor()));
+            visited.addAll(namesOf(actualResult));
+        }
+
+        assertEquals(List.of("Filmes", "Series", "Documentarios"), visited);
+        assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    void givenAMalformedCursor_whenCallsFindAll_shouldThrowDomainException() {
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc", "not-a-cursor");
+
+        final var actualException = assertThrows(DomainException.class, () -> gateway().findAll(query));
+
+        assertEquals("'after' is not a valid cursor", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllWithoutTotal_shouldReturnUnknownTotal() {
+        seed();
+
+        final var actualResult = gateway().findAll(new CategorySearchQuery(0, 2, "", "name", "asc", null, TotalMode.NONE));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        assertTrue(actualResult.hasNext());
+        assertEquals(2, actualResult.items().size());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllSummaries_shouldMatchFindAll() {
+        seed();
+
+        final var query = new CategorySearchQuery(0, 2, "", "name", "asc");
+
+        final var expectedResult = gateway().findAll(query);
+        final var actualResult = gateway().findAllSummaries(query);
+
+        assertEquals(expectedResult.total(), actualResult.total());
+        assertEquals(expectedResult.hasNext(), actualResult.hasNext());
+        assertEquals(expectedResult.nextCursor(), actualResult.nextCursor());
+        assertEquals(expectedResult.items().stream().map(Category::getId).toList(),
+                actualResult.items().stream().map(CategorySummary::id).toList());
+    }
+
+    @Test
+    void givenSparseFields_whenCallsFindAllSummaries_shouldOnlyReadTheRequestedColumns() {
+        seed();
+
+        final var query = new CategorySearchQuery(0, 2, "", "name", "asc", null, TotalMode.EXACT,
+                Set.of(CategoryField.NAME));
+
+        final var firstPage = gateway().findAllSummaries(query);
+        final var lastPage = gateway().findAllSummaries(new CategorySearchQuery(0, 2, "", "name", "asc",
+                firstPage.nextCursor(), TotalMode.EXACT, query.fields()));
+
+        assertEquals(List.of("Documentarios", "Filmes"), firstPage.items().stream().map(CategorySummary::name).toList());
+        assertNotNull(firstPage.items().get(0).id());
+        assertNull(firstPage.items().get(1).description());
+        assertNull(firstPage.items().get(1).createdAt());
+        assertEquals(List.of("Series"), lastPage.items().stream().map(CategorySummary::name).toList());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsForEachBatch_shouldVisitEveryCategoryOnceInIdOrder() {
+        seed();
+        final var expectedIds = gateway().findAll(new CategorySearchQuery(0, 3, "", "name", "asc")).items().stream()
+                .map(aCategory -> aCategory.getId().getValue())
+                .sorted()
+                .toList();
+        final var actualIds = new ArrayList<String>();
+
+        final var count = gateway().forEachBatch(2, batch -> {
+            assertTrue(batch.size() <= 2);
+            batch.forEach(aSummary -> actualIds.add(aSummary.id().getValue()));
+        });
+
+        assertEquals(actualIds.size(), count);
+        assertEquals(actualIds.stream().sorted().distinct().toList(), actualIds);
+        assertEquals(expectedIds, actualIds.stream().filter(expectedIds::contains).toList());
+    }
+
+    private void seed() {
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        gateway().createAll(List.of(
+                Category.with(CategoryID.unique(), "Filmes", "A categoria mais assistida", true, now, now, null),
+                Category.with(CategoryID.unique(), "Series", null, true, now.plusMillis(1), now.plusMillis(1), null),
+                Category.with(CategoryID.unique(), "Documentarios", null, true, now.plusMillis(2), now.plusMillis(2),
+                        null)));
+    }
+
+    private static List<String> namesOf(final Pagination<Category> aPage) {
+        return aPage.items().stream().map(Category::getName).toList();
+    }
+
+    private static Instant roundMicros(final Instant instant) {
+        return instant.plusNanos(500).truncatedTo(ChronoUnit.MICROS);
+    }
+
+}
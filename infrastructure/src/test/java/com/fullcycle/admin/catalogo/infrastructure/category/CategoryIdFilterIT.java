@@ -0,0 +1,114 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryIdReader;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "category.id-filter.enabled=true",
+        "category.cache.change-log.poll-interval=1h",
+        "category.cache.change-log.grace-period=0s"
+})
+class CategoryIdFilterIT {
+
+    private static ConfigurableApplicationContext otherNode;
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryIdFilter categoryIdFilter;
+
+    @Autowired
+    private CategoryIdReader categoryIdReader;
+
+    @Autowired
+    private CategoryChangePoller categoryChangePoller;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void startOtherNode() {
+        otherNode = new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test")
+                .properties("spring.main.web-application-type=none")
+                .run();
+    }
+
+    @AfterAll
+    static void stopOtherNode() {
+        otherNode.close();
+    }
+
+    @Test
+    void givenARebuiltFilter_whenCallsGetCategory_shouldAnswerUnknownIdsWithoutTheDatabase() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var unknown = CategoryID.unique();
+        categoryIdFilter.rebuild();
+        categoryChangePoller.poll();
+        final var absent = lookups("absent");
+
+        assertEquals("Filmes", getCategoryByIdUseCase.execute(aCategory.getId().getValue()).name());
+        assertThrows(DomainException.class, () -> getCategoryByIdUseCase.execute(unknown.getValue()));
+
+        assertTrue(lookups("absent") >= absent + 1);
+        assertTrue(meterRegistry.get("category.id.filter.memory").gauge().value() > 0);
+    }
+
+    @Test
+    void givenACategoryCreatedOnAnotherNode_whenCallsGetCategoryBeforeAnyPoll_shouldFindIt() {
+        categoryIdFilter.rebuild();
+        categoryChangePoller.poll();
+
+        final var anId = otherNode.getBean(CategoryGateway.class)
+                .create(Category.newCategory("Filmes", null, true))
+                .getId();
+
+        assertFalse(categoryIdFilter.mightContain(anId));
+        assertEquals("Filmes", getCategoryByIdUseCase.execute(anId.getValue()).name());
+    }
+
+    @Test
+    void givenMoreIdsThanABatch_whenReadsAllIds_shouldVisitEachOnceInOrder() {
+        final var expectedIds = IntStream.range(0, 5)
+                .mapToObj(i -> categoryGateway.create(Category.newCategory("Categoria " + i, null, true)).getId())
+                .map(CategoryID::getValue)
+                .sorted()
+                .toList();
+        final var actualIds = new ArrayList<String>();
+
+        final var count = categoryIdReader.forEach(2, anId -> actualIds.add(anId.getValue()));
+
+        assertEquals(5, count);
+        assertEquals(expectedIds, List.copyOf(actualIds));
+    }
+
+    private double lookups(final String aResult) {
+        return meterRegistry.get("category.id.filter.lookups").tag("result", aResult).functionCounter().count();
+    }
+
+}
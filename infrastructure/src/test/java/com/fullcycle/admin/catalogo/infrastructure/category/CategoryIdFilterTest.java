@@ -0,0 +1,115 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryIdReader;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryIdFilterTest {
+
+    private static final int EXPECTED_INSERTIONS = 10_000;
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Mock
+    private CategoryIdReader reader;
+
+    private final List<CategoryID> stored = new ArrayList<>();
+
+    private CategoryIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new CategoryIdFilter(reader, EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE, Duration.ofHours(1));
+    }
+
+    @Test
+    void givenAFilterNotBuiltYet_whenCallsMightContain_shouldLetEveryValidIdThrough() {
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain(CategoryID.unique()));
+        assertFalse(filter.mightContain(CategoryID.from("invalid")));
+    }
+
+    @Test
+    void givenStoredIds_whenRebuilds_shouldContainAllOfThemAndFewOthers() {
+        IntStream.range(0, EXPECTED_INSERTIONS).forEach(i -> stored.add(CategoryID.unique()));
+        scanStored();
+
+        filter.rebuild();
+
+        assertTrue(stored.stream().allMatch(filter::mightContain));
+        final var falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain(CategoryID.unique()))
+                .count();
+        assertTrue(falsePositives < 10_000 * FALSE_POSITIVE_RATE * 2, "false positives: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < FALSE_POSITIVE_RATE * 1.5);
+        assertTrue(filter.memoryBytes() > 0 && filter.memoryBytes() < 2 * EXPECTED_INSERTIONS);
+    }
+
+    @Test
+    void givenADeletedId_whenRebuilds_shouldDropIt() {
+        final var kept = CategoryID.unique();
+        final var deleted = CategoryID.unique();
+        stored.addAll(List.of(kept, deleted));
+        scanStored();
+        filter.rebuild();
+
+        stored.remove(deleted);
+        filter.rebuild();
+
+        assertTrue(filter.mightContain(kept));
+        assertFalse(filter.mightContain(deleted));
+    }
+
+    @Test
+    void givenAnIdPutDuringARebuild_whenRebuildFinishes_shouldStillContainIt() {
+        final var createdDuringScan = CategoryID.unique();
+        doAnswer(invocation -> {
+            filter.putAll(List.of(createdDuringScan));
+            return 0L;
+        }).when(reader).forEach(anyInt(), any());
+
+        filter.rebuild();
+
+        assertTrue(filter.mightContain(createdDuringScan));
+    }
+
+    @Test
+    void givenAFailingScan_whenRebuilds_shouldKeepThePreviousFilter() {
+        final var anId = CategoryID.unique();
+        stored.add(anId);
+        scanStored();
+        filter.rebuild();
+
+        doAnswer(invocation -> {
+            throw new IllegalStateException("connection refused");
+        }).when(reader).forEach(anyInt(), any());
+
+        assertThrows(IllegalStateException.class, filter::rebuild);
+        assertTrue(filter.mightContain(anId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void scanStored() {
+        doAnswer(invocation -> {
+            List.copyOf(stored).forEach(invocation.<Consumer<CategoryID>>getArgument(1));
+            return (long) stored.size();
+        }).when(reader).forEach(anyInt(), any());
+    }
+
+}
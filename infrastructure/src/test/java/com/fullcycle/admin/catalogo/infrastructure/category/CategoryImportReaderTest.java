@@ -0,0 +1,88 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.ImportCategoryRow;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void givenNdjson_whenReadsRows_shouldParseEachLineAndKeepItsNumber() {
+        final var body = """
+                {"name":"Filmes","description":"A mais assistida","active":true}
+
+                {"name":"Series" "active":true}
+                null
+                {"name":"Documentarios","active":false}
+                """;
+
+        final var rows = readAll(CategoryImportReader.ndjson(new StringReader(body), objectMapper));
+
+        assertEquals(4, rows.size());
+        assertEquals(CreateCategoryCommand.with("Filmes", "A mais assistida", true), rows.get(0).command().get());
+        assertEquals(1, rows.get(0).line());
+        assertEquals(3, rows.get(1).line());
+        assertTrue(rows.get(1).command().getLeft().firstError().message().startsWith("Malformed JSON"));
+        assertEquals("Row must be a JSON object", rows.get(2).command().getLeft().firstError().message());
+        assertEquals(CreateCategoryCommand.with("Documentarios", null, false), rows.get(3).command().get());
+        assertEquals(5, rows.get(3).line());
+    }
+
+    @Test
+    void givenCsv_whenReadsRows_shouldHonourQuotesAndReportBadRows() {
+        final var body = "Name,description,active\r\n"
+                + "Filmes,,\r\n"
+                + "\"Series, novelas\",\"Com \"\"aspas\"\"\nem duas linhas\",false\r\n"
+                + "Animes,sem coluna\r\n"
+                + "Documentarios,,talvez\r\n";
+
+        final var rows = readAll(CategoryImportReader.csv(new StringReader(body)));
+
+        assertEquals(4, rows.size());
+        assertEquals(CreateCategoryCommand.with("Filmes", null, true), rows.get(0).command().get());
+        assertEquals(2, rows.get(0).line());
+        assertEquals(CreateCategoryCommand.with("Series, novelas", "Com \"aspas\"\nem duas linhas", false),
+                rows.get(1).command().get());
+        assertEquals(3, rows.get(1).line());
+        assertEquals(5, rows.get(2).line());
+        assertEquals("Expected 3 columns but found 2", rows.get(2).command().getLeft().firstError().message());
+        assertEquals("'active' must be true or false", rows.get(3).command().getLeft().firstError().message());
+    }
+
+    @Test
+    void givenARowLongerThanTheLimit_whenReadsRows_shouldRejectItAndResumeOnTheNextLine() {
+        final var body = "{\"name\":\"" + "a".repeat(CategoryImportReader.MAX_ROW_LENGTH) + "\"}\n"
+                + "{\"name\":\"Filmes\"}\n";
+
+        final var rows = readAll(CategoryImportReader.ndjson(new StringReader(body), objectMapper));
+
+        assertEquals(2, rows.size());
+        assertTrue(rows.get(0).command().getLeft().firstError().message().startsWith("Row exceeds"));
+        assertEquals("Filmes", rows.get(1).command().get().name());
+        assertEquals(2, rows.get(1).line());
+    }
+
+    @Test
+    void givenACsvWithoutNameColumn_whenReadsRows_shouldThrowDomainException() {
+        final var aReader = CategoryImportReader.csv(new StringReader("description,active\nx,true\n"));
+
+        assertThrows(DomainException.class, aReader::hasNext);
+    }
+
+    private static List<ImportCategoryRow> readAll(final CategoryImportReader aReader) {
+        final var rows = new ArrayList<ImportCategoryRow>();
+        aReader.forEachRemaining(rows::add);
+        return rows;
+    }
+
+}
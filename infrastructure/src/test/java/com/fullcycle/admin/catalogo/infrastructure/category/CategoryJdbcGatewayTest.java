@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MySQLGatewayTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CategoryJdbcGateway.class)
+@TestPropertySource(properties = "category.gateway=jdbc")
+public class CategoryJdbcGatewayTest extends CategoryGatewayContractTest {
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    protected CategoryGateway gateway() {
+        return categoryGateway;
+    }
+
+    // CleanUpExtension deletes through JPA, which is not flushed before JdbcTemplate reads in this transaction.
+    @BeforeEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM category");
+    }
+
+    @Test
+    void givenJdbcGatewayProperty_whenContextLoads_shouldUseJdbcGateway() {
+        assertInstanceOf(CategoryJdbcGateway.class, categoryGateway);
+    }
+
+    @Test
+    void givenMoreCategoriesThanBatchSize_whenCallsCreateAll_shouldPersistAll() {
+        final var categories = IntStream.range(0, 120)
+                .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+                .toList();
+
+        categoryGateway.createAll(categories);
+
+        assertEquals(120, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category", Long.class));
+    }
+
+    @Test
+    void givenAnUnsupportedSort_whenCallsFindAll_shouldThrowDomainException() {
+        final var query = new CategorySearchQuery(0, 1, "", "unknown", "asc");
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        assertEquals("'sort' is not supported: 'unknown'", actualException.getErrors().get(0).message());
+    }
+
+}
@@ -3,18 +3,33 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
 import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.catalogo.domain.category.CategoryID;
 import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.pagination.TotalMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @MySQLGatewayTest
-public class CategoryMySQLGatewayTest {
+public class CategoryMySQLGatewayTest extends CategoryGatewayContractTest {
 
     @Autowired
     private CategoryMySQLGateway categoryGateway;
@@ -22,6 +37,25 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @Override
+    protected CategoryGateway gateway() {
+        return categoryGateway;
+    }
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
     @Test
     void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory() {
         final var expectedName = "Filmes";
@@ -52,6 +86,108 @@ public class CategoryMySQLGatewayTest {
         assertNull(actualCategoryEntity.getDeletedAt());
     }
 
+    @Test
+    void givenAValidCategory_whenCallsCreate_shouldStoreIdAsSixteenBytes() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        categoryGateway.create(aCategory);
+
+        final var actualId = (byte[]) entityManager.getEntityManager()
+                .createNativeQuery("SELECT id FROM category")
+                .getSingleResult();
+
+        assertEquals(16, actualId.length);
+        assertEquals(aCategory.getId().getValue(), UuidBinaryType.fromBytes(actualId));
+    }
+
+    @Test
+    void givenValidCategories_whenCallsCreateAll_shouldPersistAll() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", null, false);
+
+        assertEquals(0, categoryRepository.count());
+
+        final var actualCategories = categoryGateway.createAll(List.of(filmes, series));
+
+        assertEquals(2, categoryRepository.count());
+        assertEquals(filmes.getId(), actualCategories.get(0).getId());
+        assertEquals(series.getId(), actualCategories.get(1).getId());
+
+        final var actualSeries = categoryRepository.findById(series.getId().getValue()).get();
+
+        assertEquals("Series", actualSeries.getName());
+        assertFalse(actualSeries.isActive());
+        assertEquals(series.getCreatedAt(), actualSeries.getCreatedAt());
+        assertEquals(series.getDeletedAt(), actualSeries.getDeletedAt());
+    }
+
+    @Test
+    void givenAValidCategory_whenCallsCreate_shouldIssueASingleInsert() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        statistics.clear();
+
+        categoryGateway.create(aCategory);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllByIds_shouldIssueASingleSelect() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+        entityManager.clear();
+        statistics.clear();
+
+        final var actualCategories = categoryGateway.findAllByIds(List.of(series.getId(), filmes.getId()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(List.of("Series", "Filmes"), actualCategories.stream().map(Category::getName).toList());
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsUpdate_shouldIssueASingleUpdate() {
+        final var aCategory = Category.newCategory("Film", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        entityManager.clear();
+        statistics.clear();
+
+        categoryGateway.update(aCategory.clone().update("Filmes", null, true));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("Filmes", categoryRepository.findById(aCategory.getId().getValue()).get().getName());
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsDeleteById_shouldIssueASingleDelete() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        entityManager.clear();
+        statistics.clear();
+
+        categoryGateway.deleteById(aCategory.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    void givenANotStoredCategory_whenCallsUpdate_shouldThrowDomainException() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedErrorMessage = "Category with ID %s was not found".formatted(aCategory.getId().getValue());
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryGateway.update(aCategory));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        assertEquals(0, categoryRepository.count());
+    }
+
     @Test
     void givenAValidCategory_whenCallsUpdate_shouldReturnCategoryUpdated() {
         final var expectedName = "Filmes";
@@ -84,7 +220,7 @@ public class CategoryMySQLGatewayTest {
         assertEquals(expectedName, actualCategoryEntity.getName());
         assertEquals(expectedDescription, actualCategoryEntity.getDescription());
         assertEquals(expectedIsActive, actualCategoryEntity.isActive());
-        assertEquals(aCategory.getCreatedAt(), actualCategoryEntity.getCreatedAt());
+        assertEquals(roundMicros(aCategory.getCreatedAt()), actualCategoryEntity.getCreatedAt());
         assertTrue(aCategory.getUpdatedAt().isBefore(actualCategory.getUpdatedAt()));
         assertNull(actualCategoryEntity.getDeletedAt());
     }
@@ -299,4 +435,171 @@ public class CategoryMySQLGatewayTest {
         assertEquals(filmes.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllFollowingNextCursor_shouldReturnKeysetPages() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)));
+
+        var actualResult = categoryGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc"));
+
+        assertEquals(expectedTotal, actualResult.total());
+        assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        assertNotNull(actualResult.nextCursor());
+
+        actualResult = categoryGateway.findAll(
+                new CategorySearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor()));
+
+        assertEquals(expectedPerPage, actualResult.perPage());
+        assertEquals(expectedTotal, actualResult.total());
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        assertNotNull(actualResult.nextCursor());
+
+        actualResult = categoryGateway.findAll(
+                new CategorySearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor()));
+
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertEquals(series.getId(), actualResult.items().get(0).getId());
+        assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    void givenCategoriesWithSameName_whenCallsFindAllFollowingNextCursor_shouldUseIdAsTieBreaker() {
+        final var first = Category.newCategory("Filmes", "first", true);
+        final var second = Category.newCategory("Filmes", "second", true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(first), CategoryJpaEntity.from(second)));
+
+        final var firstPage = categoryGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "desc"));
+        final var secondPage = categoryGateway.findAll(
+                new CategorySearchQuery(0, 1, "", "name", "desc", firstPage.nextCursor()));
+
+        assertEquals(1, secondPage.items().size());
+        assertNotEquals(firstPage.items().get(0).getId(), secondPage.items().get(0).getId());
+        assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    void givenAnInvalidCursor_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'after' is not a valid cursor";
+
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc", "not a cursor");
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllWithoutTotal_shouldReturnHasNextOnly() {
+        final var expectedPerPage = 2;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)));
+
+        var actualResult = categoryGateway.findAll(
+                new CategorySearchQuery(0, 2, "", "name", "asc", null, TotalMode.NONE));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertTrue(actualResult.hasNext());
+        assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        assertEquals(filmes.getId(), actualResult.items().get(1).getId());
+
+        actualResult = categoryGateway.findAll(
+                new CategorySearchQuery(1, 2, "", "name", "asc", null, TotalMode.NONE));
+
+        assertEquals(1, actualResult.items().size());
+        assertFalse(actualResult.hasNext());
+        assertNull(actualResult.nextCursor());
+        assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllWithApproximateTotal_shouldReturnCachedTotal() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(filmes));
+
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc", null, TotalMode.APPROXIMATE);
+
+        var actualResult = categoryGateway.findAll(query);
+
+        assertEquals(1, actualResult.total());
+        assertFalse(actualResult.approximateTotal());
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(series));
+
+        actualResult = categoryGateway.findAll(query);
+
+        assertEquals(1, actualResult.total());
+        assertTrue(actualResult.approximateTotal());
+        assertEquals(2, actualResult.items().size());
+        assertFalse(actualResult.hasNext());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllSummaries_shouldReturnSameItemsAsFindAll() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", null, false);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)));
+        entityManager.clear();
+
+        final var query = new CategorySearchQuery(0, 2, "", "name", "asc");
+
+        final var expectedResult = categoryGateway.findAll(query).map(CategorySummary::from);
+        final var actualResult = categoryGateway.findAllSummaries(query);
+
+        assertEquals(expectedResult, actualResult);
+        assertEquals(3, actualResult.total());
+        assertEquals(documentarios.getId(), actualResult.items().get(0).id());
+        assertEquals(filmes.getId(), actualResult.items().get(1).id());
+        assertEquals(filmes.getDescription(), actualResult.items().get(1).description());
+        assertTrue(actualResult.hasNext());
+        assertNotNull(actualResult.nextCursor());
+
+        final var actualNextPage = categoryGateway.findAllSummaries(
+                new CategorySearchQuery(0, 2, "", "name", "asc", actualResult.nextCursor()));
+
+        assertEquals(1, actualNextPage.items().size());
+        assertEquals(series.getId(), actualNextPage.items().get(0).id());
+        assertFalse(actualNextPage.items().get(0).active());
+        assertFalse(actualNextPage.hasNext());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllSummaries_shouldNotManageEntities() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Series", null, true))));
+        entityManager.clear();
+
+        final var actualResult = categoryGateway.findAllSummaries(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        assertEquals(2, actualResult.items().size());
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    private Instant roundMicros(final Instant instant) {
+        return instant.plusNanos(500).truncatedTo(ChronoUnit.MICROS);
+    }
+
 }
@@ -0,0 +1,177 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategorySummary;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.pagination.TotalMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+@TestPropertySource(properties = "spring.main.web-application-type=reactive")
+class CategoryR2dbcGatewayIT {
+
+    @Autowired
+    private CategoryR2dbcGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void givenAValidCategory_whenCallsCreateAndFindById_shouldEmitTheSameCategory() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        StepVerifier.create(categoryGateway.create(aCategory).then(categoryGateway.findById(aCategory.getId())))
+                .assertNext(actualCategory -> {
+                    assertEquals(aCategory.getId(), actualCategory.getId());
+                    assertEquals(aCategory.getName(), actualCategory.getName());
+                    assertEquals(aCategory.getDescription(), actualCategory.getDescription());
+                    assertTrue(actualCategory.isActive());
+                    assertEquals(roundMicros(aCategory.getCreatedAt()), roundMicros(actualCategory.getCreatedAt()));
+                    assertNull(actualCategory.getDeletedAt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void givenValidCategories_whenCallsCreateAll_shouldCommitEveryOne() {
+        final var categories = List.of(Category.newCategory("Filmes", null, true),
+                Category.newCategory("Series", null, false));
+
+        StepVerifier.create(categoryGateway.createAll(categories).map(Category::getId).collectList())
+                .expectNext(categories.stream().map(Category::getId).toList())
+                .verifyComplete();
+
+        assertEquals(2, categoryRepository.count());
+    }
+
+    @Test
+    void givenUnknownOrMalformedIds_whenCallsFindById_shouldComplete() {
+        StepVerifier.create(categoryGateway.findById(CategoryID.unique())).verifyComplete();
+        StepVerifier.create(categoryGateway.findById(CategoryID.from("invalid"))).verifyComplete();
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsUpdate_shouldPersistNewValues() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        categoryGateway.create(aCategory).block();
+
+        final var anUpdatedCategory = Category.with(aCategory).update("Filmes", "A categoria mais assistida", false);
+
+        StepVerifier.create(categoryGateway.update(anUpdatedCategory).then(categoryGateway.findById(aCategory.getId())))
+                .assertNext(actualCategory -> {
+                    assertEquals("Filmes", actualCategory.getName());
+                    assertFalse(actualCategory.isActive());
+                    assertNotNull(actualCategory.getDeletedAt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void givenAnUnknownCategory_whenCallsUpdate_shouldEmitNotFound() {
+        final var unknown = Category.newCategory("Filmes", null, true);
+
+        StepVerifier.create(categoryGateway.update(unknown))
+                .expectErrorSatisfies(error -> assertEquals(
+                        "Category with ID %s was not found".formatted(unknown.getId().getValue()),
+                        ((DomainException) error).getErrors().get(0).message()))
+                .verify();
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsDeleteById_shouldRemoveIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryGateway.create(aCategory).block();
+
+        StepVerifier.create(categoryGateway.deleteById(aCategory.getId()).then(categoryGateway.findById(aCategory.getId())))
+                .verifyComplete();
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllSummariesByPages_shouldEmitSortedPages() {
+        seed();
+
+        StepVerifier.create(categoryGateway.findAllSummaries(new CategorySearchQuery(0, 2, "", "name", "asc")))
+                .assertNext(aPage -> {
+                    assertEquals(3, aPage.total());
+                    assertEquals(List.of("Documentarios", "Filmes"), namesOf(aPage));
+                    assertTrue(aPage.hasNext());
+                })
+                .verifyComplete();
+        StepVerifier.create(categoryGateway.findAllSummaries(new CategorySearchQuery(1, 2, "", "name", "asc")))
+                .assertNext(aPage -> {
+                    assertEquals(List.of("Series"), namesOf(aPage));
+                    assertFalse(aPage.hasNext());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllSummariesWithTerms_shouldMatchIgnoringCase() {
+        seed();
+
+        StepVerifier.create(categoryGateway.findAllSummaries(new CategorySearchQuery(0, 10, "MAIS ASSISTIDA", "name", "asc")))
+                .assertNext(aPage -> {
+                    assertEquals(1, aPage.total());
+                    assertEquals(List.of("Filmes"), namesOf(aPage));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllSummariesFollowingCursors_shouldVisitEveryCategoryOnce() {
+        seed();
+
+        var aPage = categoryGateway.findAllSummaries(
+                new CategorySearchQuery(0, 1, "", "createdAt", "asc", null, TotalMode.NONE)).block();
+        final var visited = new ArrayList<>(namesOf(aPage));
+        for (int page = 0; page < 3 && aPage.nextCursor() != null; page++) {
+            aPage = categoryGateway.findAllSummaries(
+                    new CategorySearchQuery(0, 1, "", "createdAt", "asc", aPage.nextCursor(), TotalMode.NONE)).block();
+            visited.addAll(namesOf(aPage));
+        }
+
+        assertEquals(List.of("Filmes", "Series", "Documentarios"), visited);
+        assertEquals(Pagination.UNKNOWN_TOTAL, aPage.total());
+    }
+
+    @Test
+    void givenAnUnsupportedSort_whenCallsFindAllSummaries_shouldEmitDomainException() {
+        StepVerifier.create(categoryGateway.findAllSummaries(new CategorySearchQuery(0, 1, "", "unknown", "asc")))
+                .expectErrorSatisfies(error -> assertEquals("'sort' is not supported: 'unknown'",
+                        ((DomainException) error).getErrors().get(0).message()))
+                .verify();
+    }
+
+    private void seed() {
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        categoryGateway.createAll(List.of(
+                Category.with(CategoryID.unique(), "Filmes", "A categoria mais assistida", true, now, now, null),
+                Category.with(CategoryID.unique(), "Series", null, true, now.plusMillis(1), now.plusMillis(1), null),
+                Category.with(CategoryID.unique(), "Documentarios", null, true, now.plusMillis(2), now.plusMillis(2),
+                        null))).blockLast();
+    }
+
+    private static List<String> namesOf(final Pagination<CategorySummary> aPage) {
+        return aPage.items().stream().map(CategorySummary::name).toList();
+    }
+
+    private static Instant roundMicros(final Instant instant) {
+        return instant.plusNanos(500).truncatedTo(ChronoUnit.MICROS);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CategorySearchStrategyTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "fil, +fil*",
+            "MAIS ASSISTIDA, +MAIS* +ASSISTIDA*",
+            "'  netflix   amazon ', +netflix* +amazon*",
+            "+ser*ies, +ser* +ies*",
+            "\"kids\" (-docs), +kids* +docs*",
+    })
+    void givenTerms_whenBuildsBooleanQuery_shouldRequireEveryWordAsPrefix(final String terms,
+                                                                          final String expectedQuery) {
+        assertEquals(expectedQuery, CategorySearchStrategy.booleanQuery(terms).get());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"KI", "da Amazon", "+-*", " "})
+    void givenTermsWithWordsShorterThanTokenSize_whenBuildsBooleanQuery_shouldFallbackToLike(final String terms) {
+        assertTrue(CategorySearchStrategy.booleanQuery(terms).isEmpty());
+    }
+
+}
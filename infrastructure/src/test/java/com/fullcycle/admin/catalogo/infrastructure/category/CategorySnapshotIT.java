@@ -0,0 +1,108 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryChangeLog;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryScanner;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "category.snapshot.enabled=true",
+        "category.snapshot.path=target/category-snapshot-it/categories.snapshot"
+})
+class CategorySnapshotIT {
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategorySnapshotStore categorySnapshotStore;
+
+    @Autowired
+    private CategoryScanner categoryScanner;
+
+    @Autowired
+    private CategoryChangeLog categoryChangeLog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${category.snapshot.path}")
+    private Path path;
+
+    @Test
+    void givenAWrittenSnapshot_whenRestarts_shouldServeItAndCatchUpOnChangesSinceThen() {
+        final var filmes = categoryGateway.create(anHourAgo("Filmes"));
+        final var series = categoryGateway.create(anHourAgo("Series"));
+        final var documentarios = categoryGateway.create(anHourAgo("Documentarios"));
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE category_changes SET changed_at = ?", Timestamp.from(filmes.getUpdatedAt())));
+        categorySnapshotStore.write();
+
+        // Renamed without a new updated_at, so only a read served by the snapshot still sees the old name.
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE category SET name = 'Film' WHERE id = ?", idOf(filmes));
+            jdbcTemplate.update("UPDATE category SET name = 'Séries', updated_at = ? WHERE id = ?",
+                    Timestamp.from(Instant.now()), idOf(series));
+            jdbcTemplate.update("DELETE FROM category WHERE id = ?", idOf(documentarios));
+            jdbcTemplate.update("INSERT INTO category_changes (category_id, changed_at) VALUES (?, ?)",
+                    idOf(documentarios), Timestamp.from(Instant.now()));
+        });
+
+        final var restarted = new SnapshotCategoryGateway(categoryGateway, Clock.systemUTC());
+        new CategorySnapshotStore(categoryScanner, categoryChangeLog, restarted, path, Duration.ofHours(1),
+                Duration.ofHours(1), Duration.ofDays(1), Clock.systemUTC()).load();
+
+        assertTrue(restarted.isServing());
+        assertEquals("Filmes", restarted.findById(filmes.getId()).orElseThrow().getName());
+        assertEquals("Séries", restarted.findById(series.getId()).orElseThrow().getName());
+        assertTrue(restarted.findById(documentarios.getId()).isEmpty());
+    }
+
+    @Test
+    void givenMoreCategoriesThanABatch_whenScansByName_shouldVisitEachOnceInNameOrder() {
+        categoryGateway.create(Category.newCategory("Series", null, true));
+        categoryGateway.create(Category.newCategory("Filmes", null, true));
+        categoryGateway.create(Category.newCategory("Animes", null, true));
+        final var names = new ArrayList<String>();
+
+        final var count = categoryScanner.forEachByName(2, aCategory -> names.add(aCategory.getName()));
+
+        assertEquals(3, count);
+        assertEquals(categoryGateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).items().stream()
+                .map(Category::getName)
+                .toList(), names);
+    }
+
+    private static Category anHourAgo(final String aName) {
+        final var anHourAgo = Instant.now().minus(Duration.ofHours(1));
+        return Category.with(CategoryID.unique(), aName, null, true, anHourAgo, anHourAgo, null);
+    }
+
+    private static byte[] idOf(final Category aCategory) {
+        return UuidBinaryType.toBytes(aCategory.getId().getValue());
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategorySnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenAWrittenSnapshot_whenCallsFindById_shouldReturnEveryFieldAsWritten() throws IOException {
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        final var filmes = Category.with(CategoryID.unique(), "Filmes", "A categoria mais assistida", true,
+                now, now, null);
+        final var series = Category.with(CategoryID.unique(), "Séries", null, false,
+                now.minusSeconds(60), now, now);
+        final var path = directory.resolve("categories.snapshot");
+
+        CategorySnapshot.write(path, now, List.of(filmes, series));
+        final var snapshot = CategorySnapshot.open(path);
+
+        assertEquals(now, snapshot.takenAt());
+        assertEquals(2, snapshot.size());
+        assertCategory(filmes, snapshot.findById(filmes.getId()).orElseThrow());
+        assertCategory(series, snapshot.findById(series.getId()).orElseThrow());
+        assertEquals(now, snapshot.findUpdatedAtById(series.getId()).orElseThrow());
+        assertTrue(snapshot.findById(CategoryID.unique()).isEmpty());
+        assertTrue(snapshot.findById(CategoryID.from("invalid")).isEmpty());
+        assertFalse(Files.exists(directory.resolve("categories.snapshot.tmp")));
+    }
+
+    @Test
+    void givenCategoriesInNameOrder_whenCallsByName_shouldPageInThatOrderBothWays() throws IOException {
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        final var byName = IntStream.range(0, 10)
+                .mapToObj(i -> Category.with(CategoryID.unique(), "Categoria " + i, null, true, now, now, null))
+                .toList();
+        final var path = directory.resolve("categories.snapshot");
+
+        CategorySnapshot.write(path, now, byName);
+        final var snapshot = CategorySnapshot.open(path);
+
+        assertEquals(List.of("Categoria 3", "Categoria 4", "Categoria 5"), names(snapshot.byName(3, 3, true)));
+        assertEquals(List.of("Categoria 9", "Categoria 8"), names(snapshot.byName(0, 2, false)));
+        assertEquals(List.of("Categoria 9"), names(snapshot.byName(9, 3, true)));
+        assertTrue(snapshot.byName(10, 3, true).isEmpty());
+    }
+
+    @Test
+    void givenAFileThatIsNotASnapshot_whenCallsOpen_shouldReject() throws IOException {
+        final var path = Files.write(directory.resolve("categories.snapshot"), new byte[64]);
+
+        assertThrows(IllegalArgumentException.class, () -> CategorySnapshot.open(path));
+    }
+
+    private static List<String> names(final List<Category> categories) {
+        return categories.stream().map(Category::getName).toList();
+    }
+
+    private static void assertCategory(final Category expected, final Category actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.isActive(), actual.isActive());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        assertEquals(expected.getDeletedAt(), actual.getDeletedAt());
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryTotalCacheTest {
+
+    @Test
+    void givenACachedTotal_whenCallsGet_shouldReturnItAsApproximateWithoutCounting() {
+        final var counts = new AtomicLong();
+        try (final var totalCache = new CategoryTotalCache(Duration.ofHours(1), 10)) {
+            assertEquals(new CategoryTotalCache.Total(7, false), totalCache.get("FILMES", () -> {
+                counts.incrementAndGet();
+                return 7;
+            }));
+            assertEquals(new CategoryTotalCache.Total(7, true), totalCache.get("FILMES", counts::incrementAndGet));
+        }
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    void givenAClosedCache_whenCallsGetOnAStaleTotal_shouldServeItWithoutRefreshing() throws InterruptedException {
+        final var counts = new AtomicLong();
+        final var totalCache = new CategoryTotalCache(Duration.ZERO, 10);
+        totalCache.get("", () -> 7);
+
+        totalCache.close();
+        Thread.sleep(2);
+
+        assertEquals(new CategoryTotalCache.Total(7, true), totalCache.get("", counts::incrementAndGet));
+        assertEquals(0, counts.get());
+    }
+
+    @Test
+    void givenAMissingTotal_whenCallsGetAsync_shouldCompleteWithTheCountAndCacheIt() {
+        final var count = new CompletableFuture<Long>();
+        try (final var totalCache = new CategoryTotalCache(Duration.ofHours(1), 10)) {
+            final var actualTotal = totalCache.getAsync("FILMES", () -> count);
+            assertFalse(actualTotal.isDone());
+
+            count.complete(7L);
+
+            assertEquals(new CategoryTotalCache.Total(7, false), actualTotal.join());
+            assertEquals(new CategoryTotalCache.Total(7, true),
+                    totalCache.getAsync("FILMES", () -> CompletableFuture.completedFuture(8L)).join());
+        }
+    }
+
+    @Test
+    void givenAStaleTotal_whenCallsGetAsync_shouldServeItAndStoreTheRefreshedCount() throws InterruptedException {
+        final var refresh = new CompletableFuture<Long>();
+        try (final var totalCache = new CategoryTotalCache(Duration.ZERO, 10)) {
+            totalCache.get("", () -> 7);
+            Thread.sleep(2);
+
+            assertEquals(new CategoryTotalCache.Total(7, true), totalCache.getAsync("", () -> refresh).join());
+            refresh.complete(9L);
+
+            assertEquals(new CategoryTotalCache.Total(9, true),
+                    totalCache.getAsync("", () -> new CompletableFuture<>()).join());
+        }
+    }
+
+}
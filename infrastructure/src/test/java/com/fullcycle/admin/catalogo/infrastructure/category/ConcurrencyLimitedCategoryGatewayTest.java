@@ -0,0 +1,72 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    @Test
+    void givenAllPermitsTaken_whenCallsFindById_shouldTimeOutWithoutReachingTheDelegate() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var aGateway = new ConcurrencyLimitedCategoryGateway(delegate, 1, Duration.ofMillis(50));
+        final var entered = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        when(delegate.update(any())).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+
+        final var slowCall = CompletableFuture.supplyAsync(() -> aGateway.update(aCategory));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        assertEquals(1, aGateway.inFlight());
+
+        assertThrows(CannotGetJdbcConnectionException.class, () -> aGateway.findById(aCategory.getId()));
+        verify(delegate, never()).findById(any());
+
+        release.countDown();
+        slowCall.get(5, TimeUnit.SECONDS);
+        assertEquals(0, aGateway.inFlight());
+    }
+
+    @Test
+    void givenAFailingCall_whenCallsFindById_shouldReleaseThePermit() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var aGateway = new ConcurrencyLimitedCategoryGateway(delegate, 1, Duration.ofMillis(50));
+
+        when(delegate.findById(any()))
+                .thenThrow(new IllegalStateException("Gateway error"))
+                .thenReturn(Optional.of(aCategory));
+
+        assertThrows(IllegalStateException.class, () -> aGateway.findById(aCategory.getId()));
+        assertEquals(Optional.of(aCategory), aGateway.findById(aCategory.getId()));
+        assertEquals(0, aGateway.inFlight());
+    }
+
+    @Test
+    void givenNoPermits_whenCreatesGateway_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConcurrencyLimitedCategoryGateway(delegate, 0, Duration.ofMillis(50)));
+    }
+
+}
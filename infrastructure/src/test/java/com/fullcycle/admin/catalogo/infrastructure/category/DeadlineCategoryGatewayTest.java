@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.application.Deadline;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeadlineCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void givenNoDeadline_whenCallsFindById_shouldNotOpenATransaction() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var aGateway = new DeadlineCategoryGateway(delegate, transactionManager);
+
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+
+        assertEquals(Optional.of(aCategory), aGateway.findById(aCategory.getId()));
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void givenADeadline_whenCallsFindById_shouldRunInAReadOnlyTransactionTimingOutWithIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var aGateway = new DeadlineCategoryGateway(delegate, transactionManager);
+
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(delegate.findById(aCategory.getId())).thenReturn(Optional.of(aCategory));
+
+        final var actual = Deadline.after(Duration.ofMillis(2_500)).run(() -> aGateway.findById(aCategory.getId()));
+
+        assertEquals(Optional.of(aCategory), actual);
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()
+                && definition.getTimeout() == 3));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void givenAnExpiredDeadline_whenCallsUpdate_shouldFailWithoutReachingTheDelegate() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var aGateway = new DeadlineCategoryGateway(delegate, transactionManager);
+
+        assertThrows(TransactionTimedOutException.class,
+                () -> Deadline.after(Duration.ZERO).run(() -> aGateway.update(aCategory)));
+        verifyNoInteractions(delegate, transactionManager);
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryIdReader;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FilteringCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    @Mock
+    private CategoryIdReader reader;
+
+    private FilteringCategoryGateway gateway;
+
+    private Instant settledUntil = Instant.now().plusSeconds(60);
+
+    @BeforeEach
+    void setUp() {
+        final var filter = new CategoryIdFilter(reader, 1000, 0.01, Duration.ofHours(1));
+        when(reader.forEach(anyInt(), any())).thenReturn(0L);
+        filter.rebuild();
+        gateway = new FilteringCategoryGateway(delegate, filter, () -> settledUntil);
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsFindById_shouldNotHitDelegate() {
+        final var anId = CategoryID.unique();
+
+        assertTrue(gateway.findById(anId).isEmpty());
+        assertTrue(gateway.findUpdatedAtById(anId).isEmpty());
+
+        verify(delegate, never()).findById(any());
+        verify(delegate, never()).findUpdatedAtById(any());
+    }
+
+    @Test
+    void givenUnknownAndCreatedIds_whenCallsFindAllByIds_shouldOnlyAskTheDelegateForTheCreatedOnes() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var unknown = CategoryID.unique();
+        when(delegate.create(any())).then(returnsFirstArg());
+        when(delegate.findAllByIds(eq(List.of(aCategory.getId())))).thenReturn(List.of(aCategory));
+
+        gateway.create(aCategory);
+
+        assertEquals(List.of(aCategory), gateway.findAllByIds(List.of(unknown, aCategory.getId())));
+        assertTrue(gateway.findAllByIds(List.of(unknown)).isEmpty());
+        verify(delegate, times(1)).findAllByIds(any());
+    }
+
+    @Test
+    void givenACreatedCategory_whenCallsFindById_shouldHitDelegate() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        when(delegate.create(any())).then(returnsFirstArg());
+        when(delegate.findById(eq(aCategory.getId()))).thenReturn(Optional.of(aCategory));
+
+        gateway.create(aCategory);
+
+        assertEquals(aCategory, gateway.findById(aCategory.getId()).orElseThrow());
+    }
+
+    @Test
+    void givenCategoriesCreatedInBatch_whenCallsFindById_shouldHitDelegate() {
+        final var categories = List.of(Category.newCategory("Filmes", null, true),
+                Category.newCategory("Series", null, true));
+        when(delegate.createAll(any())).then(returnsFirstArg());
+
+        gateway.createAll(categories);
+        categories.forEach(aCategory -> gateway.findById(aCategory.getId()));
+
+        verify(delegate, times(2)).findById(any());
+    }
+
+    @Test
+    void givenAnIdNewerThanTheSettledChanges_whenCallsFindById_shouldHitDelegate() {
+        settledUntil = Instant.now().minusSeconds(60);
+        final var anId = CategoryID.unique();
+        when(delegate.findById(eq(anId))).thenReturn(Optional.empty());
+        when(delegate.findAllByIds(eq(List.of(anId)))).thenReturn(List.of());
+
+        assertTrue(gateway.findById(anId).isEmpty());
+        assertTrue(gateway.findAllByIds(List.of(anId)).isEmpty());
+
+        verify(delegate).findById(anId);
+        verify(delegate).findAllByIds(List.of(anId));
+    }
+
+    @Test
+    void givenAnIdThatIsNotTimeOrdered_whenCallsFindById_shouldTrustTheFilter() {
+        settledUntil = Instant.MIN;
+
+        assertTrue(gateway.findById(CategoryID.from(UUID.randomUUID())).isEmpty());
+
+        verify(delegate, never()).findById(any());
+    }
+
+}
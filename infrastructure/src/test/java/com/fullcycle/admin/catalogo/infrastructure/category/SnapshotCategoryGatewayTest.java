@@ -0,0 +1,117 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategoryID;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotCategoryGatewayTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private final Category filmes = Category.with(CategoryID.unique(),
+            "Filmes", null, true, NOW, NOW, null);
+
+    private final Category series = Category.with(CategoryID.unique(),
+            "Series", null, true, NOW, NOW, null);
+
+    private CategorySnapshot snapshot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final var path = directory.resolve("categories.snapshot");
+        CategorySnapshot.write(path, NOW, List.of(filmes, series));
+        snapshot = CategorySnapshot.open(path);
+    }
+
+    @Test
+    void givenAServedSnapshot_whenCallsFindById_shouldNotHitDelegateUnlessTheIdChanged() {
+        final var gateway = gatewayAt(NOW);
+        gateway.serve(snapshot, Set.of(series.getId()), NOW.plusSeconds(60));
+        when(delegate.findById(eq(series.getId()))).thenReturn(Optional.of(Category.with(series).deactivate()));
+
+        assertTrue(gateway.findById(filmes.getId()).orElseThrow().isActive());
+        assertFalse(gateway.findById(series.getId()).orElseThrow().isActive());
+
+        verify(delegate, never()).findById(eq(filmes.getId()));
+    }
+
+    @Test
+    void givenAServedSnapshot_whenCallsFindAllByIds_shouldOnlyAskTheDelegateForChangedIds() {
+        final var gateway = gatewayAt(NOW);
+        gateway.serve(snapshot, Set.of(series.getId()), NOW.plusSeconds(60));
+        when(delegate.findAllByIds(eq(List.of(series.getId())))).thenReturn(List.of(Category.with(series).deactivate()));
+
+        final var actualCategories = gateway.findAllByIds(List.of(series.getId(), filmes.getId()));
+
+        assertEquals(List.of(series.getId(), filmes.getId()), actualCategories.stream().map(Category::getId).toList());
+        assertFalse(actualCategories.get(0).isActive());
+        assertTrue(actualCategories.get(1).isActive());
+    }
+
+    @Test
+    void givenAServedSnapshot_whenCallsFindAllByName_shouldPageFromTheSnapshotUntilSomethingChanges() {
+        final var gateway = gatewayAt(NOW);
+        gateway.serve(snapshot, Set.of(), NOW.plusSeconds(60));
+        final var aQuery = new CategorySearchQuery(0, 1, "", "name", "desc");
+
+        final var aPage = gateway.findAll(aQuery);
+
+        assertEquals(List.of("Series"), aPage.items().stream().map(Category::getName).toList());
+        assertEquals(2, aPage.total());
+        assertTrue(aPage.hasNext());
+        assertEquals(CategoryCursors.encode("name", series.getId().getValue(), series.getName(),
+                series.getCreatedAt(), series.getUpdatedAt()), aPage.nextCursor());
+        verify(delegate, never()).findAll(any());
+
+        when(delegate.findAll(any())).thenReturn(new Pagination<>(0, 1, 0, List.of()));
+        gateway.update(Category.with(filmes).deactivate());
+        gateway.findAll(aQuery);
+        gateway.findAll(new CategorySearchQuery(0, 1, "fil", "name", "asc"));
+
+        verify(delegate, times(2)).findAll(any());
+    }
+
+    @Test
+    void givenAnExpiredSnapshot_whenCallsFindById_shouldHitDelegate() {
+        final var gateway = gatewayAt(NOW.plusSeconds(61));
+        gateway.serve(snapshot, Set.of(), NOW.plusSeconds(60));
+        when(delegate.findById(any())).thenReturn(Optional.empty());
+
+        assertTrue(gateway.findById(filmes.getId()).isEmpty());
+        assertFalse(gateway.isServing());
+    }
+
+    private SnapshotCategoryGateway gatewayAt(final Instant anInstant) {
+        return new SnapshotCategoryGateway(delegate, Clock.fixed(anInstant, ZoneOffset.UTC));
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.datasource;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryType;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.driver-class-name=org.h2.Driver",
+        "datasource.replica.url=" + ReadWriteRoutingDataSourceIT.REPLICA_URL,
+        "datasource.replica.username=root",
+        "datasource.replica.password=root",
+        "datasource.replica.hikari.read-only=false",
+        "datasource.read-your-writes=0s"
+})
+public class ReadWriteRoutingDataSourceIT {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:adm_videos_replica;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @Autowired
+    @Qualifier("masterDataSource")
+    private DataSource masterDataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUpReplica() {
+        final var replicaDataSource = new DriverManagerDataSource(REPLICA_URL, "root", "root");
+        Flyway.configure()
+                .dataSource(replicaDataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.replica.update("DELETE FROM category");
+    }
+
+    @Test
+    void givenACategoryOnlyOnReplica_whenCallsGetCategory_shouldReadFromReplica() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        insertOnReplica(aCategory);
+
+        final var actualCategory = getCategoryByIdUseCase.execute(aCategory.getId().getValue());
+
+        assertEquals(aCategory.getId(), actualCategory.id());
+        assertEquals(aCategory.getName(), actualCategory.name());
+    }
+
+    @Test
+    void givenACategoryOnlyOnReplica_whenCallsListCategories_shouldReadFromReplica() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        insertOnReplica(aCategory);
+
+        final var actualResult = listCategoriesUseCase.execute(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        assertEquals(1, actualResult.total());
+        assertEquals(aCategory.getId(), actualResult.items().get(0).id());
+    }
+
+    @Test
+    void givenAValidCommand_whenCallsCreateCategory_shouldWriteToMasterOnly() {
+        final var aCommand = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+
+        final var actualOutput = createCategoryUseCase.execute(aCommand).get();
+
+        assertEquals(1, countOn(new JdbcTemplate(masterDataSource)));
+        assertEquals(0, countOn(replica));
+        assertThrows(DomainException.class, () -> getCategoryByIdUseCase.execute(actualOutput.id().getValue()));
+    }
+
+    private void insertOnReplica(final Category aCategory) {
+        replica.update("INSERT INTO category (id, name, description, active, created_at, updated_at, deleted_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                UuidBinaryType.toBytes(aCategory.getId().getValue()),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                Timestamp.from(aCategory.getCreatedAt()),
+                Timestamp.from(aCategory.getUpdatedAt()),
+                null);
+    }
+
+    private long countOn(final JdbcTemplate aTemplate) {
+        return aTemplate.queryForObject("SELECT COUNT(*) FROM category", Long.class);
+    }
+
+}
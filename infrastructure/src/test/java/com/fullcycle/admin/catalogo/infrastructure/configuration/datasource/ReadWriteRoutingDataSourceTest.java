@@ -0,0 +1,120 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReadWriteRoutingDataSourceTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2022-01-01T00:00:00Z"));
+
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenAReadOnlyTransaction_whenRouting_shouldUseReplica() {
+        final var routing = newRouting(Duration.ZERO);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(DataSourceRoute.REPLICA, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void givenAWriteTransaction_whenRouting_shouldUseMaster() {
+        final var routing = newRouting(Duration.ZERO);
+
+        assertEquals(DataSourceRoute.MASTER, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void givenACommittedWrite_whenReadingInsideReadYourWritesWindow_shouldUseMaster() {
+        final var routing = newRouting(Duration.ofSeconds(2));
+
+        commitWrite(routing);
+        clock.advance(Duration.ofMillis(1999));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(DataSourceRoute.MASTER, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void givenACommittedWrite_whenReadingAfterReadYourWritesWindow_shouldUseReplica() {
+        final var routing = newRouting(Duration.ofSeconds(2));
+
+        commitWrite(routing);
+        clock.advance(Duration.ofSeconds(2));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(DataSourceRoute.REPLICA, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void givenAWriteNotYetCommitted_whenReadingInsideReadYourWritesWindow_shouldUseReplica() {
+        final var routing = newRouting(Duration.ofSeconds(2));
+
+        TransactionSynchronizationManager.initSynchronization();
+        routing.determineCurrentLookupKey();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(DataSourceRoute.REPLICA, routing.determineCurrentLookupKey());
+    }
+
+    private void commitWrite(final ReadWriteRoutingDataSource routing) {
+        TransactionSynchronizationManager.initSynchronization();
+        routing.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private ReadWriteRoutingDataSource newRouting(final Duration readYourWrites) {
+        return new ReadWriteRoutingDataSource(new DriverManagerDataSource(), new DriverManagerDataSource(),
+                readYourWrites, clock);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(final Instant now) {
+            this.now = now;
+        }
+
+        private void advance(final Duration aDuration) {
+            this.now = this.now.plus(aDuration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+    }
+
+}